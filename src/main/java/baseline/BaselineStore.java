@@ -0,0 +1,140 @@
+package baseline;
+
+import logging.Logging;
+import waits.metrics.LatencyHistogram;
+import waits.metrics.WaitCondition;
+import waits.metrics.WaitMetrics;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Wait latency distributions of a previous, accepted run, used as the reference to detect
+ * performance regressions.
+ * <p>
+ * One latency histogram is kept per page and per {@link WaitCondition}. The baseline is
+ * persisted to a local file (see {@code perf.baseline.file}), one line per histogram:
+ * {@code scope<TAB>name<TAB>encoded histogram}, the scope being "page" or "condition".
+ */
+public class BaselineStore implements Logging {
+
+    public static final String SCOPE_PAGE = "page";
+    public static final String SCOPE_CONDITION = "condition";
+
+    // Separator used between scope, name and histogram in the baseline file
+    private static final String FIELD_SEPARATOR = "\t";
+
+    private final Path baselineFile;
+    // Histograms keyed by scope + FIELD_SEPARATOR + name, sorted so the file diffs cleanly
+    private final Map<String, LatencyHistogram> histograms = new TreeMap<>();
+
+    /**
+     * Create a baseline backed by the given file, loading it if it exists
+     *
+     * @param baselineFile File used to load and persist the baseline
+     */
+    public BaselineStore(Path baselineFile) {
+        this.baselineFile = baselineFile;
+        load();
+    }
+
+    public Path getFile() {
+        return baselineFile;
+    }
+
+    public synchronized boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    /**
+     * Get the baseline histogram of a page or condition
+     *
+     * @param scope SCOPE_PAGE or SCOPE_CONDITION
+     * @param name Page name or condition metric name
+     * @return baseline histogram, or null if the baseline has none
+     */
+    public synchronized LatencyHistogram get(String scope, String name) {
+        return histograms.get(scope + FIELD_SEPARATOR + name);
+    }
+
+    /**
+     * Replace the baseline of every page and condition seen by a run with its latencies.
+     * Pages and conditions the run didn't exercise keep their previous baseline.
+     *
+     * @param metrics Wait metrics of the run, typically the suite metrics
+     */
+    public synchronized void updateFrom(WaitMetrics metrics) {
+        for (WaitCondition condition : WaitCondition.values()) {
+            LatencyHistogram histogram = metrics.getLatencyHistogramForCondition(condition);
+            if (histogram.getCount() > 0) {
+                histograms.put(SCOPE_CONDITION + FIELD_SEPARATOR + condition.getMetricName(), histogram);
+            }
+        }
+        for (String page : metrics.getAllPageNames()) {
+            histograms.put(SCOPE_PAGE + FIELD_SEPARATOR + page, metrics.getLatencyHistogramForPage(page));
+        }
+    }
+
+    /**
+     * Persist the baseline to its file, through a temporary file so a crash while
+     * saving never leaves a half-written baseline behind
+     */
+    public synchronized void save() {
+        try {
+            Path parent = baselineFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            Path tempFile = baselineFile.resolveSibling(baselineFile.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, LatencyHistogram> entry : histograms.entrySet()) {
+                    writer.write(entry.getKey() + FIELD_SEPARATOR + entry.getValue().encode());
+                    writer.newLine();
+                }
+            }
+
+            Files.move(tempFile, baselineFile, StandardCopyOption.REPLACE_EXISTING);
+            log().info("Performance baseline saved to {}", baselineFile);
+        } catch (IOException e) {
+            log().error("Could not save performance baseline to {}: {}", baselineFile, e.getMessage());
+        }
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void load() {
+        if (!Files.exists(baselineFile)) {
+            log().debug("No performance baseline found at {}", baselineFile);
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(baselineFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int histogramSeparator = line.lastIndexOf(FIELD_SEPARATOR);
+                if (line.indexOf(FIELD_SEPARATOR) <= 0 || histogramSeparator == line.indexOf(FIELD_SEPARATOR)) {
+                    continue;
+                }
+
+                try {
+                    histograms.put(line.substring(0, histogramSeparator),
+                            LatencyHistogram.decode(line.substring(histogramSeparator + 1)));
+                } catch (IllegalArgumentException e) {
+                    log().warn("Skipping invalid baseline entry: {}", e.getMessage());
+                }
+            }
+
+            log().debug("Loaded {} baseline histograms from {}", histograms.size(), baselineFile);
+        } catch (IOException e) {
+            log().warn("Could not read performance baseline from {}: {}", baselineFile, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package baseline;
+
+/**
+ * Thrown at the end of a suite when waits got significantly slower than the baseline
+ * and {@code perf.gate.fail} is enabled
+ */
+public class PerformanceRegressionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PerformanceRegressionException(String message) {
+        super(message);
+    }
+}
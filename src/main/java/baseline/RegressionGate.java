@@ -0,0 +1,238 @@
+package baseline;
+
+import logging.Logging;
+import utils.Constants;
+import waits.metrics.LatencyHistogram;
+import waits.metrics.WaitCondition;
+import waits.metrics.WaitMetrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares the wait latencies of a run with a {@link BaselineStore} and flags the pages and
+ * conditions that got slower.
+ * <p>
+ * A page or condition is a regression when both:
+ * <ul>
+ *     <li>the run is significantly slower than the baseline according to a one-sided
+ *     Mann-Whitney U test (p-value below {@code perf.gate.alpha}), so noise isn't flagged</li>
+ *     <li>its median grew by more than {@code perf.gate.threshold} (e.g. 0.2 = 20% slower),
+ *     so tiny but consistent slowdowns aren't flagged either</li>
+ * </ul>
+ * The test runs directly on the histogram buckets, so no raw samples need to be kept.
+ * Pages and conditions with fewer than {@code perf.gate.min.samples} waits on either side
+ * are reported but never flagged.
+ */
+public class RegressionGate implements Logging {
+
+    private final BaselineStore baseline;
+    private final double threshold;
+    private final double alpha;
+    private final int minSamples;
+
+    /**
+     * Create a gate
+     *
+     * @param baseline Baseline the runs are compared with
+     * @param threshold Minimum relative growth of the median, e.g. 0.2 for 20%
+     * @param alpha Significance level of the Mann-Whitney U test, e.g. 0.01
+     * @param minSamples Minimum number of waits on each side to compare a page or condition
+     */
+    public RegressionGate(BaselineStore baseline, double threshold, double alpha, int minSamples) {
+        this.baseline = baseline;
+        this.threshold = threshold;
+        this.alpha = alpha;
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * Create a gate configured through Constants
+     */
+    public static RegressionGate fromConfiguration() {
+        return new RegressionGate(new BaselineStore(Paths.get(Constants.getPerfBaselineFile())),
+                Constants.getPerfGateThreshold(), Constants.getPerfGateAlpha(), Constants.getPerfGateMinSamples());
+    }
+
+    public BaselineStore getBaseline() {
+        return baseline;
+    }
+
+    /**
+     * Compare every page and condition of a run that also has a baseline
+     *
+     * @param metrics Wait metrics of the run, typically the suite metrics
+     * @return comparisons, pages first then conditions
+     */
+    public List<Comparison> compare(WaitMetrics metrics) {
+        List<Comparison> comparisons = new ArrayList<>();
+        for (String page : metrics.getAllPageNames()) {
+            addComparison(comparisons, BaselineStore.SCOPE_PAGE, page, metrics.getLatencyHistogramForPage(page));
+        }
+        for (WaitCondition condition : WaitCondition.values()) {
+            LatencyHistogram current = metrics.getLatencyHistogramForCondition(condition);
+            if (current.getCount() > 0) {
+                addComparison(comparisons, BaselineStore.SCOPE_CONDITION, condition.getMetricName(), current);
+            }
+        }
+        return comparisons;
+    }
+
+    /**
+     * Write a diff report of the comparisons
+     *
+     * @param comparisons Result of compare()
+     * @param reportFile File to write, replaced if it exists
+     */
+    public void writeReport(List<Comparison> comparisons, Path reportFile) {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Performance regression report - baseline %s%n", baseline.getFile()));
+        report.append(String.format("Regression: p < %s and median more than %.0f%% slower, at least %d waits%n%n",
+                alpha, threshold * 100, minSamples));
+        report.append(String.format("%-10s %-36s %9s %9s %9s %9s %8s %9s  %s%n", "scope", "name", "base p50",
+                "run p50", "base p90", "run p90", "change", "p-value", "verdict"));
+
+        for (Comparison comparison : comparisons) {
+            report.append(String.format("%-10s %-36s %7dms %7dms %7dms %7dms %+7.1f%% %9.4f  %s%n",
+                    comparison.getScope(), comparison.getName(),
+                    comparison.getBaseline().getP50().toMillis(), comparison.getCurrent().getP50().toMillis(),
+                    comparison.getBaseline().getP90().toMillis(), comparison.getCurrent().getP90().toMillis(),
+                    (comparison.getMedianRatio() - 1) * 100, comparison.getPValue(), comparison.getVerdict()));
+        }
+
+        try {
+            Path parent = reportFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(reportFile, report.toString().getBytes(StandardCharsets.UTF_8));
+            log().info("Performance regression report written to {}", reportFile);
+        } catch (IOException e) {
+            log().error("Could not write performance regression report to {}: {}", reportFile, e.getMessage());
+        }
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void addComparison(List<Comparison> comparisons, String scope, String name, LatencyHistogram current) {
+        LatencyHistogram reference = baseline.get(scope, name);
+        if (reference == null) {
+            return;
+        }
+
+        boolean enoughSamples = reference.getCount() >= minSamples && current.getCount() >= minSamples;
+        double pValue = mannWhitneyPValue(reference, current);
+        long baselineMedian = Math.max(1, reference.getP50().toNanos());
+        double medianRatio = (double) current.getP50().toNanos() / baselineMedian;
+
+        String verdict;
+        if (!enoughSamples) {
+            verdict = Comparison.VERDICT_TOO_FEW_SAMPLES;
+        } else if (pValue < alpha && medianRatio > 1 + threshold) {
+            verdict = Comparison.VERDICT_REGRESSION;
+        } else {
+            verdict = Comparison.VERDICT_OK;
+        }
+        comparisons.add(new Comparison(scope, name, reference, current, pValue, medianRatio, verdict));
+    }
+
+    /**
+     * One-sided Mann-Whitney U test that the run is slower than the baseline, using the normal
+     * approximation with tie correction. Values in the same bucket count as ties.
+     *
+     * @return p-value, 1.0 when either side is empty
+     */
+    static double mannWhitneyPValue(LatencyHistogram baseline, LatencyHistogram current) {
+        double n1 = 0;
+        double n2 = 0;
+        double u = 0; // Pairs where the run is slower, ties counting half
+        double tieTerm = 0;
+        for (int bucket = 0; bucket < baseline.getBucketCount(); bucket++) {
+            long baselineCount = baseline.getCountAtBucket(bucket);
+            long currentCount = current.getCountAtBucket(bucket);
+            if (baselineCount == 0 && currentCount == 0) {
+                continue;
+            }
+
+            u += currentCount * (n1 + baselineCount / 2.0);
+            n1 += baselineCount;
+            n2 += currentCount;
+            double ties = baselineCount + currentCount;
+            tieTerm += ties * ties * ties - ties;
+        }
+
+        double n = n1 + n2;
+        if (n1 == 0 || n2 == 0) {
+            return 1.0;
+        }
+
+        double variance = n1 * n2 / 12.0 * ((n + 1) - tieTerm / (n * (n - 1)));
+        if (variance <= 0) {
+            return 1.0; // All values tied
+        }
+        double z = (u - n1 * n2 / 2.0 - 0.5) / Math.sqrt(variance);
+        return 1 - standardNormalCdf(z);
+    }
+
+    /**
+     * Standard normal CDF, through the Abramowitz-Stegun approximation of erf (error below 1.5e-7)
+     */
+    private static double standardNormalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double erf = 1 - t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+                + t * (-1.453152027 + t * 1.061405429)))) * Math.exp(-x * x);
+        return z >= 0 ? (1 + erf) / 2 : (1 - erf) / 2;
+    }
+
+    // ========== NESTED COMPARISON CLASS ==========
+
+    /**
+     * Immutable result of comparing one page or condition with its baseline
+     */
+    public static class Comparison {
+        public static final String VERDICT_OK = "ok";
+        public static final String VERDICT_REGRESSION = "REGRESSION";
+        public static final String VERDICT_TOO_FEW_SAMPLES = "too few samples";
+
+        private final String scope;
+        private final String name;
+        private final LatencyHistogram baseline;
+        private final LatencyHistogram current;
+        private final double pValue;
+        private final double medianRatio;
+        private final String verdict;
+
+        public Comparison(String scope, String name, LatencyHistogram baseline, LatencyHistogram current,
+                          double pValue, double medianRatio, String verdict) {
+            this.scope = scope;
+            this.name = name;
+            this.baseline = baseline;
+            this.current = current;
+            this.pValue = pValue;
+            this.medianRatio = medianRatio;
+            this.verdict = verdict;
+        }
+
+        public String getScope() { return scope; }
+        public String getName() { return name; }
+        public LatencyHistogram getBaseline() { return baseline; }
+        public LatencyHistogram getCurrent() { return current; }
+        public double getPValue() { return pValue; }
+        public double getMedianRatio() { return medianRatio; }
+        public String getVerdict() { return verdict; }
+        public boolean isRegression() { return VERDICT_REGRESSION.equals(verdict); }
+
+        @Override
+        public String toString() {
+            return String.format("%s %s: median %dms -> %dms (%+.1f%%, p=%.4f) %s", scope, name,
+                    baseline.getP50().toMillis(), current.getP50().toMillis(), (medianRatio - 1) * 100, pValue,
+                    verdict);
+        }
+    }
+}
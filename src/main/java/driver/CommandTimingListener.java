@@ -0,0 +1,71 @@
+package driver;
+
+import events.DriverCommandEvent;
+import jdk.jfr.EventType;
+import journal.RecordJournal;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * WebDriver listener measuring the latency of every driver, element, navigation,
+ * window and alert call and recording it in {@link DriverMetrics}. Calls are also
+ * emitted as {@link DriverCommandEvent}s when a JFR recording enables them.
+ * <p>
+ * Start times are kept per thread, so commands sent concurrently (e.g. parallel waits)
+ * are timed independently. Failed commands are recorded too.
+ */
+public class CommandTimingListener implements WebDriverListener {
+
+    private static final EventType COMMAND_EVENT_TYPE = EventType.getEventType(DriverCommandEvent.class);
+
+    // Placeholder pushed while no recording wants command events, never committed
+    private static final DriverCommandEvent NO_EVENT = new DriverCommandEvent();
+
+    private final DriverMetrics metrics;
+    private final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+    private final ThreadLocal<Deque<DriverCommandEvent>> events = ThreadLocal.withInitial(ArrayDeque::new);
+
+    public CommandTimingListener(DriverMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        DriverCommandEvent event = NO_EVENT;
+        if (COMMAND_EVENT_TYPE.isEnabled()) {
+            event = new DriverCommandEvent();
+            event.begin();
+        }
+
+        events.get().push(event);
+        startTimes.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        recordCall(method, true);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        recordCall(method, false);
+    }
+
+    private void recordCall(Method method, boolean successful) {
+        Long startTime = startTimes.get().poll();
+        if (startTime != null) {
+            long nanos = System.nanoTime() - startTime;
+            metrics.recordCommand(method.getName(), nanos);
+            RecordJournal.getInstance().recordCommand(method.getName(), nanos, successful);
+        }
+
+        DriverCommandEvent event = events.get().poll();
+        if (event != null && event != NO_EVENT) {
+            event.complete(method.getDeclaringClass().getSimpleName(), method.getName(), successful);
+        }
+    }
+}
@@ -1,7 +1,14 @@
 package driver;
 
+import events.SessionLifecycleEvent;
 import logging.Logging;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import tracing.Span;
+import tracing.Tracing;
+import waits.cache.ElementStateCache;
+import waits.cache.StateInvalidatingListener;
+import waits.core.WaitManager;
 
 import java.time.Duration;
 
@@ -10,25 +17,60 @@ public abstract class DriverManager implements Logging {
 
     protected abstract WebDriver createDriver();
 
+    @SuppressWarnings("try")
     public void quitDriver() {
         if (null != drivers.get()) {
-            try {
+            ElementStateCache.unregister(drivers.get());
+            WaitManager.removeInstance(drivers.get()); // Publish its wait metrics and release it
+            SessionLifecycleEvent event = new SessionLifecycleEvent();
+            event.begin();
+            try (Span span = Tracing.span("driver", "quitDriver").arg("manager", getClass().getSimpleName())) {
                 drivers.get().quit(); // First quit WebDriver session gracefully
                 drivers.remove(); // Remove WebDriver reference from the ThreadLocal variable.
+                DriverMetrics.getInstance().recordSessionEnd();
+                event.complete(SessionLifecycleEvent.PHASE_QUIT, getClass().getSimpleName(), true);
             } catch (Exception e) {
+                event.complete(SessionLifecycleEvent.PHASE_QUIT, getClass().getSimpleName(), false);
                 log().error("Unable to gracefully quit WebDriver. {}", e.getMessage());
             }
 
         }
     }
 
+    @SuppressWarnings("try")
     public WebDriver getDriver() {
         if (null == drivers.get()) {
-            drivers.set(this.createDriver());
+            SessionLifecycleEvent event = new SessionLifecycleEvent();
+            event.begin();
+            long startTime = System.nanoTime();
+            WebDriver driver;
+            try (Span span = Tracing.span("driver", "createDriver").arg("manager", getClass().getSimpleName())) {
+                driver = this.createDriver();
+            } catch (RuntimeException e) {
+                event.complete(SessionLifecycleEvent.PHASE_START, getClass().getSimpleName(), false);
+                throw e;
+            }
+            event.complete(SessionLifecycleEvent.PHASE_START, getClass().getSimpleName(), true);
+            DriverMetrics.getInstance().recordSessionStart(Duration.ofNanos(System.nanoTime() - startTime));
+
+            drivers.set(decorate(driver));
         }
         drivers.get().manage().timeouts().implicitlyWait(Duration.ofSeconds(1));
 
         return drivers.get();
     }
 
+    /**
+     * Wrap the created driver so mutating commands invalidate its element state cache
+     * and every command latency is recorded in DriverMetrics
+     */
+    private WebDriver decorate(WebDriver driver) {
+        ElementStateCache stateCache = new ElementStateCache();
+        WebDriver decorated = new EventFiringDecorator<>(
+                new StateInvalidatingListener(stateCache),
+                new CommandTimingListener(DriverMetrics.getInstance())).decorate(driver);
+        ElementStateCache.register(decorated, stateCache);
+
+        return decorated;
+    }
 }
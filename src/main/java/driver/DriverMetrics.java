@@ -0,0 +1,110 @@
+package driver;
+
+import waits.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Suite-wide timings of driver sessions and WebDriver commands.
+ * <p>
+ * Session start durations are recorded by DriverManager when a driver is created, and
+ * command latencies by {@link CommandTimingListener}. Commands are grouped by WebDriver
+ * method name, a small fixed set, so the number of histograms stays bounded.
+ * <p>
+ * This class is thread-safe. Use {@link #getInstance()} to access the shared metrics.
+ */
+public final class DriverMetrics {
+
+    private static final DriverMetrics INSTANCE = new DriverMetrics();
+
+    private final LatencyHistogram sessionStartLatency = new LatencyHistogram();
+    private final AtomicLong sessionsStarted = new AtomicLong();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicLong lastSessionStartEpochMillis = new AtomicLong();
+
+    private final Map<String, LatencyHistogram> commandLatency = new ConcurrentHashMap<>();
+
+    /**
+     * Create standalone metrics, e.g. rebuilt from a journal. Tests record into {@link #getInstance()}.
+     */
+    public DriverMetrics() {
+    }
+
+    public static DriverMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record that a driver session was started
+     *
+     * @param startDuration How long creating the session took
+     */
+    public void recordSessionStart(Duration startDuration) {
+        sessionStartLatency.record(startDuration);
+        sessionsStarted.incrementAndGet();
+        activeSessions.incrementAndGet();
+        lastSessionStartEpochMillis.set(Instant.now().toEpochMilli());
+    }
+
+    /**
+     * Record that a driver session was quit
+     */
+    public void recordSessionEnd() {
+        activeSessions.updateAndGet(active -> Math.max(0, active - 1));
+    }
+
+    /**
+     * Record the latency of a WebDriver command
+     *
+     * @param command WebDriver method name, e.g. "findElement" or "click"
+     * @param nanos How long the command took
+     */
+    public void recordCommand(String command, long nanos) {
+        commandLatency.computeIfAbsent(command, k -> new LatencyHistogram()).recordMicros(nanos / 1_000);
+    }
+
+    public LatencyHistogram getSessionStartLatency() {
+        return sessionStartLatency;
+    }
+
+    public long getSessionsStarted() {
+        return sessionsStarted.get();
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * Time the last session was started, or Instant.EPOCH if none was started yet
+     */
+    public Instant getLastSessionStart() {
+        return Instant.ofEpochMilli(lastSessionStartEpochMillis.get());
+    }
+
+    /**
+     * Get list of all command names that have been recorded
+     *
+     * @return Set of command names, sorted alphabetically
+     */
+    public Set<String> getAllCommandNames() {
+        return new TreeSet<>(commandLatency.keySet());
+    }
+
+    /**
+     * Get the latency histogram of a command
+     *
+     * @param command WebDriver method name
+     * @return LatencyHistogram for this command, empty if it was never called
+     */
+    public LatencyHistogram getCommandLatency(String command) {
+        return commandLatency.getOrDefault(command, new LatencyHistogram());
+    }
+}
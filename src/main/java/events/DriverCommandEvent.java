@@ -0,0 +1,45 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering one WebDriver call (driver, element, navigation, window or alert method).
+ * Emitted by driver.CommandTimingListener.
+ */
+@Name("seleniumevent.DriverCommand")
+@Label("Driver Command")
+@Category({"SeleniumEvent", "Driver"})
+@Description("A call sent through the WebDriver API")
+@StackTrace(false)
+public class DriverCommandEvent extends jdk.jfr.Event {
+
+    @Label("Target")
+    private String target;
+
+    @Label("Command")
+    private String command;
+
+    @Label("Successful")
+    private boolean successful;
+
+    /**
+     * End the event and commit it if the recording wants it
+     *
+     * @param target API the method belongs to, e.g. "WebDriver" or "WebElement"
+     * @param command Method name, e.g. "findElement"
+     * @param successful Whether the call returned without an exception
+     */
+    public void complete(String target, String command, boolean successful) {
+        end();
+        if (shouldCommit()) {
+            this.target = target;
+            this.command = command;
+            this.successful = successful;
+            commit();
+        }
+    }
+}
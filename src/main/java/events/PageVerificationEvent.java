@@ -0,0 +1,45 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering the verification that a page finished loading, i.e. a page transition.
+ * Emitted by the page objects.
+ */
+@Name("seleniumevent.PageVerification")
+@Label("Page Verification")
+@Category({"SeleniumEvent", "Pages"})
+@Description("Verification that a page was loaded after a navigation")
+@StackTrace(false)
+public class PageVerificationEvent extends jdk.jfr.Event {
+
+    @Label("Page")
+    private String page;
+
+    @Label("URL")
+    private String url;
+
+    @Label("Successful")
+    private boolean successful;
+
+    /**
+     * End the event and commit it if the recording wants it
+     *
+     * @param page Simple name of the page object class
+     * @param url URL of the loaded page, or null if it was not read
+     * @param successful Whether the page was verified
+     */
+    public void complete(String page, String url, boolean successful) {
+        end();
+        if (shouldCommit()) {
+            this.page = page;
+            this.url = url;
+            this.successful = successful;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event covering the creation or the quit of a driver session.
+ * Emitted by the driver managers.
+ */
+@Name("seleniumevent.SessionLifecycle")
+@Label("Session Lifecycle")
+@Category({"SeleniumEvent", "Driver"})
+@Description("A driver session being started or quit")
+@StackTrace(false)
+public class SessionLifecycleEvent extends jdk.jfr.Event {
+
+    public static final String PHASE_START = "start";
+    public static final String PHASE_QUIT = "quit";
+
+    @Label("Phase")
+    private String phase;
+
+    @Label("Driver Manager")
+    private String driverManager;
+
+    @Label("Successful")
+    private boolean successful;
+
+    /**
+     * End the event and commit it if the recording wants it
+     *
+     * @param phase PHASE_START or PHASE_QUIT
+     * @param driverManager Simple name of the driver manager, e.g. "ChromeDriverManager"
+     * @param successful Whether the session was started or quit without an exception
+     */
+    public void complete(String phase, String driverManager, boolean successful) {
+        end();
+        if (shouldCommit()) {
+            this.phase = phase;
+            this.driverManager = driverManager;
+            this.successful = successful;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import waits.metrics.WaitCondition;
+import waits.metrics.WaitLabels;
+
+import java.time.Duration;
+
+/**
+ * JFR event covering one wait executed by ElementWaitBuilder or PageWaitBuilder.
+ * <p>
+ * Usage: create and {@link #begin()} it before the wait, then call
+ * {@link #complete(WaitCondition, WaitLabels, Duration, String)} once it finished.
+ * Fields are only filled when a recording enabled the event.
+ */
+@Name("seleniumevent.Wait")
+@Label("Wait")
+@Category({"SeleniumEvent", "Waits"})
+@Description("A wait for an element or page condition")
+@StackTrace(false)
+public class WaitEvent extends jdk.jfr.Event {
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_TIMEOUT = "timeout";
+    public static final String OUTCOME_ABORTED = "aborted";
+    public static final String OUTCOME_ERROR = "error";
+
+    @Label("Condition")
+    private String condition;
+
+    @Label("Argument")
+    private String argument;
+
+    @Label("Page")
+    private String page;
+
+    @Label("Timeout")
+    @Timespan(Timespan.MILLISECONDS)
+    private long timeout;
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * End the event and commit it if the recording wants it
+     *
+     * @param condition Condition that was waited for
+     * @param labels Page and argument of the wait
+     * @param timeout Timeout applied to the wait
+     * @param outcome One of the OUTCOME_ constants
+     */
+    public void complete(WaitCondition condition, WaitLabels labels, Duration timeout, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.condition = condition.getMetricName();
+            this.argument = labels.getArgument();
+            this.page = labels.getPageName();
+            this.timeout = timeout.toMillis();
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
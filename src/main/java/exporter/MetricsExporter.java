@@ -0,0 +1,168 @@
+package exporter;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import driver.DriverMetrics;
+import logging.Logging;
+import utils.Constants;
+import waits.core.WaitManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the suite wait metrics, running sessions included, and driver timings in OpenMetrics
+ * format, so long-running monitoring runs can feed Prometheus-compatible dashboards.
+ * <p>
+ * Two outputs are supported, each enabled independently:
+ * <ul>
+ *     <li>an embedded HTTP endpoint serving {@code /metrics} (see {@code metrics.http.port})</li>
+ *     <li>a file for the node_exporter textfile collector (see {@code metrics.textfile.path}),
+ *     replaced atomically on every refresh</li>
+ * </ul>
+ * A background thread renders a snapshot every {@code metrics.export.interval}; scrapes only
+ * copy the latest snapshot, so they never compete with test threads for the metrics.
+ */
+public class MetricsExporter implements Logging {
+
+    private final int httpPort;
+    private final Path textfilePath;
+    private final Duration refreshInterval;
+
+    private volatile byte[] snapshot = new byte[0];
+    private ScheduledExecutorService scheduler;
+    private HttpServer server;
+
+    /**
+     * Create an exporter
+     *
+     * @param httpPort Port of the HTTP endpoint, 0 disables it
+     * @param textfilePath File written for the textfile collector, null disables it
+     * @param refreshInterval How often snapshots are rendered
+     */
+    public MetricsExporter(int httpPort, Path textfilePath, Duration refreshInterval) {
+        this.httpPort = httpPort;
+        this.textfilePath = textfilePath;
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * Create an exporter configured through Constants
+     */
+    public static MetricsExporter fromConfiguration() {
+        String textfile = Constants.getMetricsTextfilePath();
+        return new MetricsExporter(Constants.getMetricsHttpPort(), textfile != null ? Paths.get(textfile) : null,
+                Constants.getMetricsExportInterval());
+    }
+
+    public boolean isEnabled() {
+        return httpPort > 0 || textfilePath != null;
+    }
+
+    /**
+     * Start refreshing snapshots and serving them. Does nothing when no output is configured.
+     */
+    public synchronized void start() {
+        if (!isEnabled() || scheduler != null) {
+            return;
+        }
+
+        refresh();
+
+        if (httpPort > 0) {
+            try {
+                server = HttpServer.create(new InetSocketAddress(httpPort), 0);
+                server.createContext("/metrics", this::serveSnapshot);
+                server.start();
+                log().info("OpenMetrics endpoint listening on http://localhost:{}/metrics", httpPort);
+            } catch (IOException e) {
+                log().error("Could not start OpenMetrics endpoint on port {}: {}", httpPort, e.getMessage());
+            }
+        }
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::refresh, refreshInterval.toMillis(), refreshInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Render a final snapshot, write it to the textfile and stop serving
+     */
+    public synchronized void stop() {
+        if (scheduler == null) {
+            return;
+        }
+
+        scheduler.shutdownNow();
+        scheduler = null;
+        refresh();
+
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /**
+     * Render a new snapshot from the current metrics and write it to the textfile, if configured
+     */
+    public void refresh() {
+        try {
+            // Sessions still running are included, long monitoring runs may never quit their driver
+            byte[] rendered = OpenMetricsFormat.render(WaitManager.snapshotSuiteMetrics(),
+                    DriverMetrics.getInstance()).getBytes(StandardCharsets.UTF_8);
+            snapshot = rendered;
+
+            if (textfilePath != null) {
+                writeTextfile(rendered);
+            }
+        } catch (IOException | RuntimeException e) {
+            // Never let an export failure kill the refresh thread
+            log().warn("Could not export metrics: {}", e.getMessage());
+        }
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void serveSnapshot(HttpExchange exchange) throws IOException {
+        byte[] body = snapshot;
+        exchange.getResponseHeaders().set("Content-Type", OpenMetricsFormat.CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Write to a temporary file first, so the collector never reads a half-written file
+     */
+    private void writeTextfile(byte[] content) throws IOException {
+        Path parent = textfilePath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path tempFile = textfilePath.resolveSibling(textfilePath.getFileName() + ".tmp");
+        Files.write(tempFile, content);
+        try {
+            Files.move(tempFile, textfilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, textfilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package exporter;
+
+import driver.DriverMetrics;
+import waits.metrics.LatencyHistogram;
+import waits.metrics.WaitCondition;
+import waits.metrics.WaitMetrics;
+
+/**
+ * Renders wait and driver metrics in the OpenMetrics text exposition format.
+ * <p>
+ * Latency histograms are exported with a fixed set of bucket bounds, computed from the
+ * fine-grained buckets of {@link LatencyHistogram}, so the exposition stays small no matter
+ * how many waits were recorded.
+ */
+public final class OpenMetricsFormat {
+
+    public static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    // Exported bucket bounds, in microseconds and as rendered in the "le" label (seconds)
+    private static final long[] BUCKET_BOUNDS_MICROS = {
+            5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000,
+            1_000_000, 2_500_000, 5_000_000, 10_000_000, 30_000_000, 60_000_000
+    };
+    private static final String[] BUCKET_LABELS = {
+            "0.005", "0.01", "0.025", "0.05", "0.1", "0.25", "0.5",
+            "1.0", "2.5", "5.0", "10.0", "30.0", "60.0"
+    };
+
+    private OpenMetricsFormat() {
+        throw new UnsupportedOperationException("This is a utility class");
+    }
+
+    /**
+     * Render wait and driver metrics
+     *
+     * @param waitMetrics wait metrics to export, typically the suite metrics of the MetricsRegistry
+     * @param driverMetrics driver session and command timings
+     * @return complete exposition, terminated by "# EOF"
+     */
+    public static String render(WaitMetrics waitMetrics, DriverMetrics driverMetrics) {
+        StringBuilder out = new StringBuilder(16 * 1024);
+
+        // ========== WAITS ==========
+
+        family(out, "wait_duration_seconds", "histogram", "seconds", "Duration of waits by condition");
+        for (WaitCondition condition : WaitCondition.values()) {
+            LatencyHistogram histogram = waitMetrics.getLatencyHistogramForCondition(condition);
+            if (histogram.getCount() > 0) {
+                histogram(out, "wait_duration_seconds", "condition", condition.getMetricName(), histogram);
+            }
+        }
+
+        family(out, "wait_page_duration_seconds", "histogram", "seconds", "Duration of waits by page");
+        for (String page : waitMetrics.getAllPageNames()) {
+            histogram(out, "wait_page_duration_seconds", "page", page, waitMetrics.getLatencyHistogramForPage(page));
+        }
+
+        family(out, "waits", "counter", null, "Completed waits by condition and outcome");
+        for (WaitCondition condition : WaitCondition.values()) {
+            int successful = waitMetrics.getSuccessfulWaitCount(condition);
+            int failed = waitMetrics.getFailedWaitCount(condition);
+            if (successful + failed > 0) {
+                String labels = "condition=\"" + escape(condition.getMetricName()) + "\",outcome=";
+                out.append("waits_total{").append(labels).append("\"success\"} ").append(successful).append('\n');
+                out.append("waits_total{").append(labels).append("\"failure\"} ").append(failed).append('\n');
+            }
+        }
+
+        // ========== DRIVER SESSIONS AND COMMANDS ==========
+
+        family(out, "webdriver_session_start_duration_seconds", "histogram", "seconds",
+                "Time taken to start a driver session");
+        histogram(out, "webdriver_session_start_duration_seconds", null, null, driverMetrics.getSessionStartLatency());
+
+        family(out, "webdriver_sessions", "counter", null, "Driver sessions started");
+        out.append("webdriver_sessions_total ").append(driverMetrics.getSessionsStarted()).append('\n');
+
+        family(out, "webdriver_sessions_active", "gauge", null, "Driver sessions currently open");
+        out.append("webdriver_sessions_active ").append(driverMetrics.getActiveSessions()).append('\n');
+
+        family(out, "webdriver_session_last_start_timestamp_seconds", "gauge", "seconds",
+                "Time the last driver session was started");
+        out.append("webdriver_session_last_start_timestamp_seconds ")
+                .append(driverMetrics.getLastSessionStart().toEpochMilli() / 1000.0).append('\n');
+
+        family(out, "webdriver_command_duration_seconds", "histogram", "seconds",
+                "Latency of WebDriver commands by method");
+        for (String command : driverMetrics.getAllCommandNames()) {
+            histogram(out, "webdriver_command_duration_seconds", "command", command,
+                    driverMetrics.getCommandLatency(command));
+        }
+
+        out.append("# EOF\n");
+        return out.toString();
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static void family(StringBuilder out, String name, String type, String unit, String help) {
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        if (unit != null) {
+            out.append("# UNIT ").append(name).append(' ').append(unit).append('\n');
+        }
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+    }
+
+    /**
+     * Append the buckets, count and sum of a histogram, with an optional label
+     */
+    private static void histogram(StringBuilder out, String name, String labelName, String labelValue,
+                                  LatencyHistogram histogram) {
+        // Last slot holds the values above the highest bound (+Inf)
+        long[] counts = new long[BUCKET_BOUNDS_MICROS.length + 1];
+        for (int i = 0; i < histogram.getBucketCount(); i++) {
+            long count = histogram.getCountAtBucket(i);
+            if (count == 0) {
+                continue;
+            }
+
+            long upperBound = LatencyHistogram.bucketUpperBoundMicros(i);
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MICROS.length && upperBound > BUCKET_BOUNDS_MICROS[bucket]) {
+                bucket++;
+            }
+            counts[bucket] += count;
+        }
+
+        String labels = labelName != null ? labelName + "=\"" + escape(labelValue) + "\"" : "";
+        String bucketPrefix = labels.isEmpty() ? "{le=\"" : "{" + labels + ",le=\"";
+
+        long cumulative = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            cumulative += counts[bucket];
+            String bound = bucket < BUCKET_LABELS.length ? BUCKET_LABELS[bucket] : "+Inf";
+            out.append(name).append("_bucket").append(bucketPrefix).append(bound).append("\"} ")
+                    .append(cumulative).append('\n');
+        }
+
+        String sampleLabels = labels.isEmpty() ? "" : "{" + labels + "}";
+        out.append(name).append("_count").append(sampleLabels).append(' ').append(cumulative).append('\n');
+        out.append(name).append("_sum").append(sampleLabels).append(' ')
+                .append(histogram.getTotal().toNanos() / 1_000_000_000.0).append('\n');
+    }
+
+    /**
+     * Escape a label value as required by the exposition format
+     */
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,95 @@
+package journal;
+
+import driver.DriverMetrics;
+import exporter.OpenMetricsFormat;
+import waits.metrics.LatencyHistogram;
+import waits.metrics.WaitMetrics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Prints the reports of a run from its journal:
+ * <pre>
+ * java -cp target/classes:... journal.JournalCli journal/journal-20250101-120000.bin [text|openmetrics]
+ * </pre>
+ * or through Maven: {@code mvn compile exec:exec -Pjournal -Djournal.file=...}
+ * <p>
+ * The text format is the wait summary logged at the end of a suite followed by command
+ * latencies, the openmetrics format is the exposition served by the metrics exporter.
+ */
+public final class JournalCli {
+
+    // Number of slowest and failed waits listed in the text report
+    private static final int WAITS_TO_LIST = 5;
+
+    private JournalCli() {
+        throw new UnsupportedOperationException("This is a utility class");
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("Usage: JournalCli <journal file> [text|openmetrics]");
+            System.exit(2);
+        }
+
+        String format = args.length > 1 ? args[1] : "text";
+        if (!format.equals("text") && !format.equals("openmetrics")) {
+            System.err.println("Unknown format '" + format + "', expected text or openmetrics");
+            System.exit(2);
+        }
+
+        JournalReader reader;
+        try {
+            reader = JournalReader.read(Paths.get(args[0]));
+        } catch (IOException e) {
+            System.err.println("Could not read journal: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        if (format.equals("openmetrics")) {
+            System.out.print(OpenMetricsFormat.render(reader.toWaitMetrics(), reader.toDriverMetrics()));
+        } else {
+            System.out.print(renderText(Paths.get(args[0]), reader));
+        }
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static String renderText(Path file, JournalReader reader) {
+        WaitMetrics waitMetrics = reader.toWaitMetrics();
+        StringBuilder report = new StringBuilder();
+
+        report.append("Journal ").append(file).append(" started ").append(reader.getStartTime())
+                .append(" - ").append(reader.getRecords().size()).append(" records");
+        if (reader.getDroppedCount() > 0) {
+            report.append(", ").append(reader.getDroppedCount()).append(" dropped");
+        }
+        report.append(System.lineSeparator()).append(System.lineSeparator());
+
+        report.append(waitMetrics.generateSummaryReport()).append(System.lineSeparator());
+        for (WaitMetrics.WaitRecord record : waitMetrics.getSlowestWaits(WAITS_TO_LIST)) {
+            report.append("Slow wait: ").append(record).append(System.lineSeparator());
+        }
+        for (WaitMetrics.WaitRecord record : waitMetrics.getRecentFailedWaits(WAITS_TO_LIST)) {
+            report.append("Failed wait: ").append(record).append(" - ").append(record.getErrorMessage())
+                    .append(System.lineSeparator());
+        }
+
+        report.append(System.lineSeparator()).append("Command latencies:").append(System.lineSeparator());
+        driverCommands(reader, report);
+        return report.toString();
+    }
+
+    private static void driverCommands(JournalReader reader, StringBuilder report) {
+        DriverMetrics driverMetrics = reader.toDriverMetrics();
+        for (String command : driverMetrics.getAllCommandNames()) {
+            LatencyHistogram histogram = driverMetrics.getCommandLatency(command);
+            report.append(String.format("  %-24s count=%d p50=%dms p99=%dms max=%dms%n", command,
+                    histogram.getCount(), histogram.getP50().toMillis(), histogram.getP99().toMillis(),
+                    histogram.getMax().toMillis()));
+        }
+    }
+}
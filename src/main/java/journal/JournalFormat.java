@@ -0,0 +1,98 @@
+package journal;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Binary layout of a journal file, shared by {@link RecordJournal} and {@link JournalReader}.
+ * <p>
+ * A journal starts with a fixed-size header followed by its regions. Each region holds
+ * {@code regionRecords} fixed-width records. All values are little-endian.
+ * <pre>
+ * Header (HEADER_SIZE bytes)
+ *   0  int   magic
+ *   4  int   version
+ *   8  int   record size
+ *   12 int   region count
+ *   16 int   records per region
+ *   20 int   name count
+ *   24 long  start time (epoch millis)
+ *   32 long  records dropped because their region was full
+ *   64       name table: [short length][UTF-8 bytes] per name, IDs starting at 1
+ *
+ * Record (RECORD_SIZE bytes)
+ *   0  long  timestamp, nanoseconds since the start time plus one (0 marks an empty slot)
+ *   8  long  duration in nanoseconds
+ *   16 long  thread ID
+ *   24 int   kind (bits 24-31), outcome (bits 16-23), code (bits 0-15)
+ *   28 int   test name ID, 0 outside of tests
+ * </pre>
+ * The code of a wait record is the name ID of its {@code WaitCondition} metric name and the
+ * code of a command record is the name ID of the WebDriver method. Conditions are stored by
+ * name, so journals stay readable when conditions are added or reordered.
+ */
+final class JournalFormat {
+
+    static final int MAGIC = 0x534A524E; // "SJRN"
+    // Version 1 stored wait conditions by enum ordinal
+    static final int VERSION = 2;
+
+    static final int HEADER_SIZE = 64 * 1024;
+    static final int RECORD_SIZE = 32;
+
+    // Header offsets
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int RECORD_SIZE_OFFSET = 8;
+    static final int REGION_COUNT_OFFSET = 12;
+    static final int REGION_RECORDS_OFFSET = 16;
+    static final int NAME_COUNT_OFFSET = 20;
+    static final int START_TIME_OFFSET = 24;
+    static final int DROPPED_OFFSET = 32;
+    static final int NAME_TABLE_OFFSET = 64;
+
+    // Record offsets
+    static final int TIMESTAMP_OFFSET = 0;
+    static final int DURATION_OFFSET = 8;
+    static final int THREAD_OFFSET = 16;
+    static final int TYPE_OFFSET = 24;
+    static final int TEST_OFFSET = 28;
+
+    static final int KIND_WAIT = 1;
+    static final int KIND_COMMAND = 2;
+
+    static final int OUTCOME_SUCCESS = 0;
+    static final int OUTCOME_FAILURE = 1;
+
+    // Names are referenced by a 16-bit code
+    static final int MAX_NAMES = 0xFFFF;
+
+    // Views used to write records from several threads without locking
+    static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private JournalFormat() {
+        throw new UnsupportedOperationException("This is a utility class");
+    }
+
+    static int packType(int kind, int outcome, int code) {
+        return kind << 24 | outcome << 16 | code & 0xFFFF;
+    }
+
+    static int kindOf(int type) {
+        return type >>> 24;
+    }
+
+    static int outcomeOf(int type) {
+        return type >>> 16 & 0xFF;
+    }
+
+    static int codeOf(int type) {
+        return type & 0xFFFF;
+    }
+
+    static long fileSize(int regionCount, int regionRecords) {
+        return HEADER_SIZE + (long) regionCount * regionRecords * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,190 @@
+package journal;
+
+import driver.DriverMetrics;
+import waits.metrics.WaitCondition;
+import waits.metrics.WaitHistory;
+import waits.metrics.WaitLabels;
+import waits.metrics.WaitMetrics;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static journal.JournalFormat.*;
+
+/**
+ * Reads the records of a journal written by {@link RecordJournal}, including the journal of
+ * a run that crashed, and rebuilds wait and driver metrics from them so the usual reports
+ * can be produced after the run.
+ */
+public final class JournalReader {
+
+    private final Instant startTime;
+    private final long droppedCount;
+    private final List<JournalRecord> records;
+
+    private JournalReader(Instant startTime, long droppedCount, List<JournalRecord> records) {
+        this.startTime = startTime;
+        this.droppedCount = droppedCount;
+        this.records = records;
+    }
+
+    /**
+     * Read a journal file
+     *
+     * @param file Journal written by RecordJournal
+     * @return reader holding all complete records, ordered by timestamp
+     * @throws IOException if the file can't be read or is not a journal
+     */
+    public static JournalReader read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a journal file: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            if (buffer.getInt(MAGIC_OFFSET) != MAGIC) {
+                throw new IOException("Not a journal file: " + file);
+            }
+            if (buffer.getInt(VERSION_OFFSET) != VERSION || buffer.getInt(RECORD_SIZE_OFFSET) != RECORD_SIZE) {
+                throw new IOException("Unsupported journal version " + buffer.getInt(VERSION_OFFSET) + ": " + file);
+            }
+
+            int regionCount = buffer.getInt(REGION_COUNT_OFFSET);
+            int regionRecords = buffer.getInt(REGION_RECORDS_OFFSET);
+            if (channel.size() < fileSize(regionCount, regionRecords)) {
+                throw new IOException("Truncated journal file: " + file);
+            }
+            long startMillis = buffer.getLong(START_TIME_OFFSET);
+            List<String> names = readNames(buffer);
+
+            List<JournalRecord> records = new ArrayList<>();
+            for (int region = 0; region < regionCount; region++) {
+                for (int slot = 0; slot < regionRecords; slot++) {
+                    int offset = HEADER_SIZE + (region * regionRecords + slot) * RECORD_SIZE;
+                    long timestamp = buffer.getLong(offset + TIMESTAMP_OFFSET);
+                    // Empty slot, or a record interrupted by a crash
+                    if (timestamp == 0) {
+                        continue;
+                    }
+                    JournalRecord record = readRecord(buffer, offset, startMillis, timestamp, names);
+                    if (record != null) {
+                        records.add(record);
+                    }
+                }
+            }
+            records.sort(Comparator.comparing(JournalRecord::getTimestamp));
+
+            return new JournalReader(Instant.ofEpochMilli(startMillis), buffer.getLong(DROPPED_OFFSET), records);
+        }
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * Number of records the run dropped because their region was full
+     */
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Get all records, ordered by timestamp
+     */
+    public List<JournalRecord> getRecords() {
+        return records;
+    }
+
+    /**
+     * Rebuild wait metrics from the wait records. The journal doesn't keep pages, so all
+     * waits are reported under the unknown page. The wait history file is left untouched.
+     */
+    public WaitMetrics toWaitMetrics() {
+        WaitMetrics metrics = new WaitMetrics(Math.max(1, records.size()), true, WaitHistory.inMemory());
+        for (JournalRecord record : records) {
+            if (record.isWait()) {
+                metrics.replayWait(new WaitMetrics.WaitRecord(record.getTimestamp(), record.getCondition(),
+                        WaitLabels.unknown(), record.getDuration(), record.isSuccessful(),
+                        record.isSuccessful() ? null : describeFailure(record),
+                        "thread-" + record.getThreadId()));
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Rebuild driver command timings from the command records
+     */
+    public DriverMetrics toDriverMetrics() {
+        DriverMetrics metrics = new DriverMetrics();
+        for (JournalRecord record : records) {
+            if (record.isCommand()) {
+                metrics.recordCommand(record.getCommand(), record.getDuration().toNanos());
+            }
+        }
+        return metrics;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static String describeFailure(JournalRecord record) {
+        return record.getTestName() != null ? "Failed in test " + record.getTestName() : "Failed";
+    }
+
+    private static List<String> readNames(MappedByteBuffer buffer) {
+        int count = buffer.getInt(NAME_COUNT_OFFSET);
+        List<String> names = new ArrayList<>(count + 1);
+        names.add(null); // ID 0: no name
+
+        int position = NAME_TABLE_OFFSET;
+        for (int i = 0; i < count; i++) {
+            int length = buffer.getShort(position);
+            byte[] bytes = new byte[length];
+            buffer.get(position + Short.BYTES, bytes);
+            names.add(new String(bytes, StandardCharsets.UTF_8));
+            position += Short.BYTES + length;
+        }
+        return names;
+    }
+
+    private static JournalRecord readRecord(MappedByteBuffer buffer, int offset, long startMillis, long timestamp,
+                                            List<String> names) {
+        int type = buffer.getInt(offset + TYPE_OFFSET);
+        int code = codeOf(type);
+        int testId = buffer.getInt(offset + TEST_OFFSET);
+
+        Instant instant = Instant.ofEpochMilli(startMillis).plusNanos(timestamp - 1);
+        Duration duration = Duration.ofNanos(buffer.getLong(offset + DURATION_OFFSET));
+        boolean successful = outcomeOf(type) == OUTCOME_SUCCESS;
+        long threadId = buffer.getLong(offset + THREAD_OFFSET);
+        String testName = testId > 0 && testId < names.size() ? names.get(testId) : null;
+
+        switch (kindOf(type)) {
+            case KIND_WAIT:
+                // Conditions removed since the journal was written are skipped
+                WaitCondition condition = code > 0 && code < names.size()
+                        ? WaitCondition.fromMetricName(names.get(code)) : null;
+                if (condition == null) {
+                    return null;
+                }
+                return new JournalRecord(instant, condition, null, duration, successful, threadId, testName);
+            case KIND_COMMAND:
+                String command = code > 0 && code < names.size() ? names.get(code) : "unknown";
+                return new JournalRecord(instant, null, command, duration, successful, threadId, testName);
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package journal;
+
+import waits.metrics.WaitCondition;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Immutable record read back from a journal: either a wait or a WebDriver command
+ */
+public final class JournalRecord {
+
+    private final Instant timestamp;
+    private final WaitCondition condition;
+    private final String command;
+    private final Duration duration;
+    private final boolean successful;
+    private final long threadId;
+    private final String testName;
+
+    JournalRecord(Instant timestamp, WaitCondition condition, String command, Duration duration,
+                  boolean successful, long threadId, String testName) {
+        this.timestamp = timestamp;
+        this.condition = condition;
+        this.command = command;
+        this.duration = duration;
+        this.successful = successful;
+        this.threadId = threadId;
+        this.testName = testName;
+    }
+
+    public boolean isWait() { return condition != null; }
+    public boolean isCommand() { return command != null; }
+    public Instant getTimestamp() { return timestamp; }
+    public WaitCondition getCondition() { return condition; }
+    public String getCommand() { return command; }
+    public Duration getDuration() { return duration; }
+    public boolean isSuccessful() { return successful; }
+    public long getThreadId() { return threadId; }
+    public String getTestName() { return testName; }
+
+    @Override
+    public String toString() {
+        return String.format("[%s] %s %s %s (%dms) thread=%d test=%s",
+                timestamp, isWait() ? "wait" : "command", isWait() ? condition.getMetricName() : command,
+                successful ? "SUCCESS" : "FAILED", duration.toMillis(), threadId, testName);
+    }
+}
@@ -0,0 +1,288 @@
+package journal;
+
+import logging.Logging;
+import utils.Constants;
+import waits.metrics.WaitCondition;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static journal.JournalFormat.*;
+
+/**
+ * Append-only journal of wait and WebDriver command records, written to a memory-mapped file.
+ * <p>
+ * Unlike the in-memory records of WaitMetrics, the journal keeps every record of the run
+ * without adding heap or GC pressure, and since records are written straight to the mapped
+ * file they survive a crash of the JVM. Use {@link JournalReader} or {@link JournalCli} to
+ * build the usual reports from a journal after the run.
+ * <p>
+ * Records are fixed-width (see {@link JournalFormat}) and the file is split in regions.
+ * A thread always writes to the region selected by its ID, so threads seldom share a region,
+ * and each region hands out slots through its own atomic cursor, so threads that do share one
+ * (e.g. many virtual threads) never overwrite each other. Once a region is full its records
+ * are dropped and counted. Recording does not allocate.
+ * <p>
+ * The journal is disabled unless {@code journal.dir} is set. Use {@link #getInstance()} to
+ * access the journal of the current run.
+ */
+public final class RecordJournal implements Logging {
+
+    private static final RecordJournal DISABLED = new RecordJournal();
+    private static volatile RecordJournal instance = DISABLED;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int regionCount;
+    private final int regionRecords;
+    private final long startNanos;
+    private final AtomicIntegerArray cursors;
+
+    // Name table: wait conditions, WebDriver methods and tests, referenced by ID from the records
+    private final Map<String, Integer> nameIds = new ConcurrentHashMap<>();
+    private int nameTablePosition = NAME_TABLE_OFFSET;
+
+    // Test running on each thread, as a name ID
+    private final ThreadLocal<Integer> currentTest = new ThreadLocal<>();
+
+    private volatile boolean closed;
+
+    private RecordJournal() {
+        this.file = null;
+        this.channel = null;
+        this.buffer = null;
+        this.regionCount = 0;
+        this.regionRecords = 0;
+        this.startNanos = 0;
+        this.cursors = null;
+        this.closed = true;
+    }
+
+    /**
+     * Create a journal file and map it
+     *
+     * @param file File to create, must not exist
+     * @param regionCount Number of regions threads are spread over
+     * @param regionRecords Number of records each region holds
+     * @throws IOException if the file can't be created or mapped
+     */
+    public RecordJournal(Path file, int regionCount, int regionRecords) throws IOException {
+        if (regionCount <= 0 || regionRecords <= 0) {
+            throw new IllegalArgumentException("Journal regions and records per region must be positive");
+        }
+        long size = fileSize(regionCount, regionRecords);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal of " + size + " bytes exceeds the 2GB mapping limit");
+        }
+
+        this.file = file;
+        this.regionCount = regionCount;
+        this.regionRecords = regionRecords;
+        this.cursors = new AtomicIntegerArray(regionCount);
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        this.startNanos = System.nanoTime();
+        buffer.putInt(VERSION_OFFSET, VERSION);
+        buffer.putInt(RECORD_SIZE_OFFSET, RECORD_SIZE);
+        buffer.putInt(REGION_COUNT_OFFSET, regionCount);
+        buffer.putInt(REGION_RECORDS_OFFSET, regionRecords);
+        buffer.putLong(START_TIME_OFFSET, System.currentTimeMillis());
+        // Written last, a reader ignores files without it
+        INT.setRelease(buffer, MAGIC_OFFSET, MAGIC);
+    }
+
+    /**
+     * Get the journal of the current run, a disabled journal when none was started
+     */
+    public static RecordJournal getInstance() {
+        return instance;
+    }
+
+    /**
+     * Start the journal of this run in the configured directory (see {@code journal.dir}).
+     * The journal stays disabled when no directory is configured or the file can't be created.
+     *
+     * @return the started journal
+     */
+    public static synchronized RecordJournal startFromConfiguration() {
+        String directory = Constants.getJournalDirectory();
+        if (directory == null) {
+            return instance;
+        }
+
+        instance.close();
+        String fileName = "journal-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"))
+                + ".bin";
+        try {
+            instance = new RecordJournal(Paths.get(directory, fileName), Constants.getJournalRegionCount(),
+                    Constants.getJournalRegionRecords());
+            instance.log().info("Recording waits and commands to journal {}", instance.file);
+        } catch (IOException | RuntimeException e) {
+            DISABLED.log().error("Could not create journal in {}: {}", directory, e.getMessage());
+        }
+        return instance;
+    }
+
+    public boolean isEnabled() {
+        return !closed;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * Set the test running on the current thread, its name is stored with the records
+     *
+     * @param testName Test name, or null once the test finished
+     */
+    public void setCurrentTest(String testName) {
+        if (closed) {
+            return;
+        }
+        if (testName == null) {
+            currentTest.remove();
+        } else {
+            currentTest.set(nameId(testName));
+        }
+    }
+
+    /**
+     * Append a wait record
+     *
+     * @param condition Condition that was waited for
+     * @param durationNanos How long the wait took
+     * @param successful Whether the condition was met
+     */
+    public void recordWait(WaitCondition condition, long durationNanos, boolean successful) {
+        if (!closed) {
+            append(KIND_WAIT, nameId(condition.getMetricName()), durationNanos, successful);
+        }
+    }
+
+    /**
+     * Append a WebDriver command record
+     *
+     * @param command WebDriver method name, e.g. "findElement" or "click"
+     * @param durationNanos How long the command took
+     * @param successful Whether the command returned without an exception
+     */
+    public void recordCommand(String command, long durationNanos, boolean successful) {
+        if (!closed) {
+            append(KIND_COMMAND, nameId(command), durationNanos, successful);
+        }
+    }
+
+    /**
+     * Number of records dropped so far because their region was full
+     */
+    public long getDroppedCount() {
+        return buffer != null ? (long) LONG.getVolatile(buffer, DROPPED_OFFSET) : 0;
+    }
+
+    /**
+     * Flush the journal to disk and stop recording. Does nothing on a disabled journal.
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (instance == this) {
+            instance = DISABLED;
+        }
+
+        buffer.force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log().warn("Could not close journal {}: {}", file, e.getMessage());
+        }
+
+        long dropped = getDroppedCount();
+        if (dropped > 0) {
+            log().warn("Journal {} was full, {} records were dropped (see journal.region.records)", file, dropped);
+        }
+        log().info("Journal written to {}", file);
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void append(int kind, int code, long durationNanos, boolean successful) {
+        long threadId = Thread.currentThread().getId();
+        int region = (int) (threadId % regionCount);
+
+        // Checked first so the cursor of a full region never overflows
+        if (cursors.get(region) >= regionRecords) {
+            LONG.getAndAdd(buffer, DROPPED_OFFSET, 1L);
+            return;
+        }
+        int slot = cursors.getAndIncrement(region);
+        if (slot >= regionRecords) {
+            LONG.getAndAdd(buffer, DROPPED_OFFSET, 1L);
+            return;
+        }
+
+        Integer test = currentTest.get();
+        int offset = HEADER_SIZE + (region * regionRecords + slot) * RECORD_SIZE;
+        LONG.set(buffer, offset + DURATION_OFFSET, durationNanos);
+        LONG.set(buffer, offset + THREAD_OFFSET, threadId);
+        INT.set(buffer, offset + TYPE_OFFSET,
+                packType(kind, successful ? OUTCOME_SUCCESS : OUTCOME_FAILURE, code));
+        INT.set(buffer, offset + TEST_OFFSET, test != null ? test : 0);
+        // Written last: a slot with a timestamp is complete
+        LONG.setRelease(buffer, offset + TIMESTAMP_OFFSET, System.nanoTime() - startNanos + 1);
+    }
+
+    /**
+     * Get the ID of a name, adding it to the name table on first use. Returns 0 once the table is full.
+     */
+    private int nameId(String name) {
+        Integer id = nameIds.get(name);
+        return id != null ? id : addName(name);
+    }
+
+    private synchronized int addName(String name) {
+        Integer id = nameIds.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, Short.MAX_VALUE);
+        int count = buffer.getInt(NAME_COUNT_OFFSET);
+        if (count >= MAX_NAMES || nameTablePosition + Short.BYTES + length > HEADER_SIZE) {
+            return 0;
+        }
+
+        buffer.putShort(nameTablePosition, (short) length);
+        buffer.put(nameTablePosition + Short.BYTES, bytes, 0, length);
+        nameTablePosition += Short.BYTES + length;
+        // Published after the bytes, so readers never see a half-written name
+        INT.setRelease(buffer, NAME_COUNT_OFFSET, count + 1);
+
+        nameIds.put(name, count + 1);
+        return count + 1;
+    }
+}
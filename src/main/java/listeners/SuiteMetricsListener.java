@@ -0,0 +1,124 @@
+package listeners;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import baseline.PerformanceRegressionException;
+import baseline.RegressionGate;
+import exporter.MetricsExporter;
+import journal.RecordJournal;
+import locators.ElementLookupStats;
+import logging.Diagnostics;
+import logging.Logging;
+import logging.TestLogBuffer;
+import tracing.Tracing;
+import utils.Constants;
+import waits.core.WaitManager;
+import waits.metrics.MetricsRegistry;
+import waits.metrics.WaitHistory;
+import waits.metrics.WaitMetrics;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Code that is executed before/after every suite.
+ * Resets the suite-wide wait metrics when the suite starts and logs their summary when it finishes.
+ * When configured, the metrics are also exported in OpenMetrics format while the suite runs,
+ * every wait and command is written to a binary journal, and an execution timeline is traced.
+ * The suite latencies are then compared with the baseline of previous runs, see {@link RegressionGate}.
+ *
+ */
+public class SuiteMetricsListener implements ISuiteListener, Logging {
+
+    // Number of slowest and failed waits listed in the summary
+    private static final int WAITS_TO_LIST = 5;
+
+    private MetricsExporter exporter;
+
+    @Override
+    public void onStart(ISuite suite) {
+        TestLogBuffer.install();
+        MetricsRegistry.getInstance().reset();
+        ElementLookupStats.reset();
+        RecordJournal.startFromConfiguration();
+        Tracing.start();
+
+        exporter = MetricsExporter.fromConfiguration();
+        exporter.start();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        // Sessions whose driver was never quit still hold their metrics
+        WaitManager.removeAllInstances();
+
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        WaitMetrics metrics = registry.getSuiteMetrics();
+
+        log().info("=====================================");
+        log().info("📊 WAIT METRICS FOR SUITE: {} ({} driver sessions)", suite.getName(), registry.getPublishedSessions());
+        log().info("=====================================");
+        log().info("{}", metrics.generateSummaryReport());
+
+        for (WaitMetrics.WaitRecord record : metrics.getSlowestWaits(WAITS_TO_LIST)) {
+            log().info("Slow wait: {}", record);
+        }
+        for (WaitMetrics.WaitRecord record : metrics.getRecentFailedWaits(WAITS_TO_LIST)) {
+            log().info("Failed wait: {} - {}", record, record.getErrorMessage());
+        }
+        log().info("WebDriver round-trips made by diagnostics: {}", Diagnostics.getTotalRoundTrips());
+        for (ElementLookupStats stats : ElementLookupStats.all()) {
+            log().info("Element lookups: {}", stats);
+        }
+
+        WaitHistory.getInstance().save();
+        List<RegressionGate.Comparison> regressions = checkPerformance(metrics);
+
+        if (exporter != null) {
+            exporter.stop();
+        }
+        RecordJournal.getInstance().close();
+        Tracing.stop();
+
+        if (!regressions.isEmpty() && Constants.isPerfGateFailEnabled()) {
+            throw new PerformanceRegressionException(regressions.size() + " performance regressions in suite "
+                    + suite.getName() + ", see " + Constants.getPerfReportFile());
+        }
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    /**
+     * Compare the suite latencies with the baseline and write the diff report.
+     * The baseline moves forward only when no regression was found, so a regression keeps
+     * being reported until it is fixed.
+     *
+     * @return regressions found
+     */
+    private List<RegressionGate.Comparison> checkPerformance(WaitMetrics metrics) {
+        if (metrics.getLatencyHistogram().getCount() == 0) {
+            return List.of();
+        }
+
+        RegressionGate gate = RegressionGate.fromConfiguration();
+        List<RegressionGate.Comparison> comparisons = gate.compare(metrics);
+        List<RegressionGate.Comparison> regressions = comparisons.stream()
+                .filter(RegressionGate.Comparison::isRegression)
+                .collect(Collectors.toList());
+
+        if (!comparisons.isEmpty()) {
+            gate.writeReport(comparisons, Paths.get(Constants.getPerfReportFile()));
+        }
+        for (RegressionGate.Comparison regression : regressions) {
+            log().warn("Performance regression: {}", regression);
+        }
+
+        if (regressions.isEmpty() && Constants.isPerfBaselineUpdateEnabled()) {
+            gate.getBaseline().updateFrom(metrics);
+            gate.getBaseline().save();
+        }
+        return regressions;
+    }
+}
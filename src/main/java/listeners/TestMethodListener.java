@@ -5,7 +5,15 @@ import org.testng.IInvokedMethodListener;
 import org.testng.ITestResult;
 import org.testng.Reporter;
 
+import journal.RecordJournal;
+import logging.Diagnostics;
 import logging.Logging;
+import logging.TestLogBuffer;
+import tracing.Span;
+import tracing.Tracing;
+import utils.Constants;
+
+import java.nio.file.Path;
 
 /**
  * Code that is executed before/after every method.
@@ -14,8 +22,17 @@ import logging.Logging;
  */
 public class TestMethodListener implements IInvokedMethodListener, Logging {
 
+    // Test result attribute holding the round-trips made by diagnostics
+    public static final String DIAGNOSTIC_ROUND_TRIPS_ATTRIBUTE = "diagnosticRoundTrips";
+
+    // Timeline span of the method running on each thread
+    private final ThreadLocal<Span> methodSpans = new ThreadLocal<>();
+
     @Override
     public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        methodSpans.set(Tracing.span(method.isTestMethod() ? "test" : "configuration",
+                method.getTestMethod().getQualifiedName()));
+
         if (method.isTestMethod()) {
             log().info("=====================================");
             log().info("🚀 STARTING TEST: {}", method.getTestMethod().getMethodName());
@@ -29,22 +46,60 @@ public class TestMethodListener implements IInvokedMethodListener, Logging {
                 Reporter.log(method.getTestMethod().getDescription(), true);
             }
             Reporter.log("******************************************");
+
+            RecordJournal.getInstance().setCurrentTest(method.getTestMethod().getQualifiedName());
+            Diagnostics.startTest();
+            TestLogBuffer.startTest(method.getTestMethod().getQualifiedName());
         }
 
     }
 
     @Override
     public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Span span = methodSpans.get();
+        if (span != null) {
+            span.arg("status", testResult.isSuccess() ? "passed" : "failed").close();
+            methodSpans.remove();
+        }
+
+        if (null != testResult.getThrowable()) {
+            // Exception happened during the Test. Logged with its stack trace before the test's log
+            // buffer is finished, so the log of a failed test contains the reason it failed
+            log().error(testResult.getThrowable().getMessage(), testResult.getThrowable());
+        }
+
         if (method.isTestMethod()) {
+            // Only the summary of passing tests goes to the log file
+            Path failedTestLog = TestLogBuffer.finishTest(!testResult.isSuccess());
+
             String status = testResult.isSuccess() ? "✅ PASSED" : "❌ FAILED";
             log().info("=====================================");
             log().info("🏁 FINISHED TEST: {} - {}", method.getTestMethod().getMethodName(), status);
             log().info("=====================================");
+            if (failedTestLog != null) {
+                log().info("Full log of the failed test written to {}", failedTestLog);
+            }
+
+            checkDiagnosticRoundTrips(method, testResult);
+            RecordJournal.getInstance().setCurrentTest(null);
         }
+    }
 
-        if (null != testResult.getThrowable()) {
-            // Exception happened during the Test.
-            log().error(testResult.getThrowable().getMessage());
+    /**
+     * Report the WebDriver round-trips made by log and error message diagnostics during the test,
+     * warning when they go over budget
+     */
+    private void checkDiagnosticRoundTrips(IInvokedMethod method, ITestResult testResult) {
+        int roundTrips = Diagnostics.getTestRoundTrips();
+        testResult.setAttribute(DIAGNOSTIC_ROUND_TRIPS_ATTRIBUTE, roundTrips);
+
+        int budget = Constants.getDiagnosticsRoundTripBudget();
+        if (roundTrips > budget) {
+            log().warn("{} made {} WebDriver round-trips for diagnostics (budget: {})",
+                    method.getTestMethod().getMethodName(), roundTrips, budget);
+        } else {
+            log().debug("{} made {} WebDriver round-trips for diagnostics",
+                    method.getTestMethod().getMethodName(), roundTrips);
         }
     }
 
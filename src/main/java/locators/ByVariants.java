@@ -0,0 +1,126 @@
+package locators;
+
+import logging.Logging;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import waits.core.DriverPlatform;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Locator of an element with alternative locators, e.g. one per site locale, declared with
+ * {@link FindVariants}.
+ * <p>
+ * All variants are resolved in one script call and the first variant with a displayed match wins.
+ * The winner is remembered per driver session and tried first on later lookups, with a single
+ * findElements command; the other variants are only tried again when it finds nothing. So pages
+ * of the second locale no longer pay a failed lookup (and its implicit wait) of the first one.
+ * <p>
+ * When the search context can't run scripts (elements, mobile sessions) or a variant can't be
+ * resolved in a script, the variants are tried one findElements command at a time instead.
+ */
+public class ByVariants extends By implements Logging {
+
+    // Returns [index of the winning variant or -1, its elements, whether one of them is displayed]
+    private static final String RESOLVE_SCRIPT = ScriptLocator.FUNCTIONS +
+            "var variants = arguments[0], fallback = -1, fallbackElements = [];" +
+            "for (var i = 0; i < variants.length; i++) {" +
+            "  var elements = locate(variants[i][0], variants[i][1]);" +
+            "  if (elements.some(visible)) { return [i, elements, true]; }" +
+            "  if (fallback < 0 && elements.length > 0) { fallback = i; fallbackElements = elements; }" +
+            "}" +
+            "return [fallback, fallbackElements, false];";
+
+    private final List<By> variants;
+
+    // Arguments of locate() for each variant, null when one of them can't be resolved in a script
+    private final List<List<Object>> scriptArguments;
+
+    // Winning variant per driver session, forgotten with the driver
+    private final Map<SearchContext, Integer> winners = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * @param variants Alternative locators, in order of preference
+     */
+    public ByVariants(By... variants) {
+        if (variants.length == 0) {
+            throw new IllegalArgumentException("At least one locator variant is required");
+        }
+        this.variants = List.of(variants);
+
+        List<List<Object>> arguments = new ArrayList<>();
+        for (By variant : variants) {
+            arguments.add(ScriptLocator.arguments(variant));
+        }
+        this.scriptArguments = arguments.contains(null) ? null : List.copyOf(arguments);
+    }
+
+    public List<By> getVariants() {
+        return variants;
+    }
+
+    @Override
+    public List<WebElement> findElements(SearchContext context) {
+        Integer winner = winners.get(context);
+        if (winner != null) {
+            List<WebElement> elements = context.findElements(variants.get(winner));
+            if (!elements.isEmpty()) {
+                return elements;
+            }
+        }
+
+        if (scriptArguments != null && context instanceof WebDriver driver && driver instanceof JavascriptExecutor
+                && !DriverPlatform.isMobile(driver)) {
+            return resolveInScript(context, (JavascriptExecutor) driver);
+        }
+        return resolveInOrder(context);
+    }
+
+    @Override
+    public String toString() {
+        return variants.stream().map(By::toString).collect(Collectors.joining(" | ", "By.variants: [", "]"));
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    @SuppressWarnings("unchecked")
+    private List<WebElement> resolveInScript(SearchContext context, JavascriptExecutor js) {
+        List<Object> result = (List<Object>) js.executeScript(RESOLVE_SCRIPT, scriptArguments);
+        int index = ((Number) result.get(0)).intValue();
+        if (index < 0) {
+            return List.of();
+        }
+
+        // Hidden matches only may be a page still rendering, they don't decide the winner
+        if (Boolean.TRUE.equals(result.get(2))) {
+            learn(context, index);
+        }
+        return (List<WebElement>) result.get(1);
+    }
+
+    private List<WebElement> resolveInOrder(SearchContext context) {
+        for (int index = 0; index < variants.size(); index++) {
+            List<WebElement> elements = context.findElements(variants.get(index));
+            if (!elements.isEmpty()) {
+                learn(context, index);
+                return elements;
+            }
+        }
+        return List.of();
+    }
+
+    private void learn(SearchContext context, int index) {
+        Integer previous = winners.put(context, index);
+        if (previous == null || previous != index) {
+            log().debug("Locator variant {} matched for {}", variants.get(index), this);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package locators;
+
+import org.openqa.selenium.SearchContext;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Sets the element fields of a page object, the {@code BINDER} of the {@code <Page>Locators} class
+ * generated for each page with @FindBy fields:
+ * <pre>
+ * initElements(HomePageLocators.BINDER);
+ * </pre>
+ * The binder knows its page type, so a page passing the binder of another page fails with a clear
+ * message instead of a ClassCastException inside the generated code.
+ *
+ * @param <P> Page object type
+ */
+public final class ElementBinder<P> {
+
+    private final Class<P> pageType;
+    private final BiConsumer<P, SearchContext> binding;
+
+    /**
+     * @param pageType Page class whose fields are set
+     * @param binding Sets the fields, the generated static {@code bind} method
+     */
+    public ElementBinder(Class<P> pageType, BiConsumer<P, SearchContext> binding) {
+        this.pageType = pageType;
+        this.binding = binding;
+    }
+
+    public Class<P> getPageType() {
+        return pageType;
+    }
+
+    /**
+     * Set the element fields of a page
+     *
+     * @param page Page object, an instance of the binder's page type
+     * @param context Context the elements are searched from
+     * @throws IllegalArgumentException if the page isn't of the binder's page type
+     */
+    public void bind(Object page, SearchContext context) {
+        if (!pageType.isInstance(page)) {
+            throw new IllegalArgumentException(page.getClass().getSimpleName()
+                    + " can't be initialized with the locators of " + pageType.getSimpleName());
+        }
+        binding.accept(pageType.cast(page), context);
+    }
+}
@@ -0,0 +1,95 @@
+package locators;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads values from every element matched by a locator in a single script execution, instead of
+ * one WebDriver round-trip per element and value.
+ * <p>
+ * Locators supported by {@link ScriptLocator} are resolved inside the script. Other locators,
+ * e.g. ByChained or ByIdOrName, are located with one findElements command first and then read
+ * by the script.
+ */
+public final class ElementExtractor {
+
+    private static final String EXTRACT_SCRIPT = ScriptLocator.FUNCTIONS +
+            "var locator = arguments[0], fields = arguments[2], rows = [];" +
+            "var elements = locator ? locate(locator[0], locator[1]) : arguments[1];" +
+            "for (var i = 0; i < elements.length; i++) {" +
+            "  var el = elements[i], row = [];" +
+            "  for (var j = 0; j < fields.length; j++) {" +
+            "    var target = fields[j][2] ? el.querySelector(fields[j][2]) : el;" +
+            "    if (!target) { row.push(fields[j][0] === 'VISIBLE' ? false : null); continue; }" +
+            "    switch (fields[j][0]) {" +
+            "      case 'TEXT': row.push((target.innerText || '').trim()); break;" +
+            "      case 'ATTRIBUTE': row.push(target.getAttribute(fields[j][1])); break;" +
+            "      case 'HREF': row.push(target.href ? String(target.href) : null); break;" +
+            "      case 'VISIBLE': row.push(visible(target)); break;" +
+            "      case 'RECT':" +
+            "        var r = target.getBoundingClientRect();" +
+            "        row.push([Math.round(r.left + window.scrollX), Math.round(r.top + window.scrollY)," +
+            "                  Math.round(r.width), Math.round(r.height)]); break;" +
+            "    }" +
+            "  }" +
+            "  rows.push(row);" +
+            "}" +
+            "return rows;";
+
+    private ElementExtractor() {
+    }
+
+    /**
+     * Read the given fields from every element matched by a locator
+     *
+     * @param driver Driver of the page, must support JavaScript
+     * @param locator Locator of the elements, searched from the document
+     * @param fields Values to read, none to just count the elements
+     * @return one row per element, in document order
+     */
+    @SuppressWarnings("unchecked")
+    public static List<ElementRow> extract(WebDriver driver, By locator, FieldSpec... fields) {
+        List<List<String>> fieldArguments = new ArrayList<>();
+        for (FieldSpec field : fields) {
+            fieldArguments.add(Arrays.asList(field.kind().name(), field.attribute(), field.selector()));
+        }
+
+        List<Object> locatorArguments = ScriptLocator.arguments(locator);
+        List<WebElement> elements = locatorArguments == null ? driver.findElements(locator) : List.of();
+
+        List<List<Object>> result = (List<List<Object>>) ((JavascriptExecutor) driver)
+                .executeScript(EXTRACT_SCRIPT, locatorArguments, elements, fieldArguments);
+
+        List<ElementRow> rows = new ArrayList<>(result.size());
+        for (int index = 0; index < result.size(); index++) {
+            List<Object> values = result.get(index);
+            Map<FieldSpec, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < fields.length; i++) {
+                row.put(fields[i], convert(fields[i], values.get(i)));
+            }
+            rows.add(new ElementRow(index, row));
+        }
+        return rows;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    @SuppressWarnings("unchecked")
+    private static Object convert(FieldSpec field, Object value) {
+        if (field.kind() == FieldSpec.Kind.RECT && value != null) {
+            List<Number> rect = (List<Number>) value;
+            return new Rectangle(rect.get(0).intValue(), rect.get(1).intValue(),
+                    rect.get(3).intValue(), rect.get(2).intValue());
+        }
+        return value;
+    }
+}
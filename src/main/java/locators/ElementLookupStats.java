@@ -0,0 +1,86 @@
+package locators;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Element lookup counters of one page class, shared by all its instances: how many times its
+ * lazy elements were located, how many lookups a cached handle avoided, and how many cached
+ * handles turned out stale and had to be located again.
+ */
+public final class ElementLookupStats {
+
+    private static final Map<String, ElementLookupStats> PAGES = new ConcurrentHashMap<>();
+
+    private final String page;
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder reuses = new LongAdder();
+    private final LongAdder staleHandles = new LongAdder();
+
+    private ElementLookupStats(String page) {
+        this.page = page;
+    }
+
+    /**
+     * Counters of a page, created on first use
+     *
+     * @param page Simple name of the page class
+     */
+    public static ElementLookupStats forPage(String page) {
+        return PAGES.computeIfAbsent(page, ElementLookupStats::new);
+    }
+
+    /**
+     * Counters of every page, sorted by page name
+     */
+    public static List<ElementLookupStats> all() {
+        List<ElementLookupStats> all = new ArrayList<>(PAGES.values());
+        all.sort(Comparator.comparing(ElementLookupStats::getPage));
+        return all;
+    }
+
+    /**
+     * Forget the counters of every page, e.g. when a suite starts
+     */
+    public static void reset() {
+        PAGES.clear();
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    public long getLookups() {
+        return lookups.sum();
+    }
+
+    public long getReuses() {
+        return reuses.sum();
+    }
+
+    public long getStaleHandles() {
+        return staleHandles.sum();
+    }
+
+    void recordLookup() {
+        lookups.increment();
+    }
+
+    void recordReuse() {
+        reuses.increment();
+    }
+
+    void recordStaleHandle() {
+        staleHandles.increment();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d lookups, %d avoided, %d stale handles", page, getLookups(), getReuses(),
+                getStaleHandles());
+    }
+}
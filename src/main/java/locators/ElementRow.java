@@ -0,0 +1,60 @@
+package locators;
+
+import org.openqa.selenium.Rectangle;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Values read from one element by {@link ElementExtractor}
+ *
+ * @param index Position of the element among those matched by the locator
+ * @param values Value of each requested field: String, Boolean or Rectangle
+ */
+public record ElementRow(int index, Map<FieldSpec, Object> values) {
+
+    public ElementRow {
+        // Attribute and href values may be null, which Map.copyOf rejects
+        values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+    }
+
+    public String text() {
+        return (String) value(FieldSpec.text());
+    }
+
+    public String attribute(String name) {
+        return (String) value(FieldSpec.attribute(name));
+    }
+
+    public String href() {
+        return (String) value(FieldSpec.href());
+    }
+
+    public boolean isVisible() {
+        return (Boolean) value(FieldSpec.visible());
+    }
+
+    public Rectangle rect() {
+        return (Rectangle) value(FieldSpec.rect());
+    }
+
+    /**
+     * Text, attribute or href value of a requested field, e.g. one read within a descendant
+     */
+    public String string(FieldSpec field) {
+        return (String) value(field);
+    }
+
+    /**
+     * Value of a requested field, the typed accessors above are usually simpler
+     *
+     * @throws IllegalArgumentException if the field wasn't requested
+     */
+    public Object value(FieldSpec field) {
+        if (!values.containsKey(field)) {
+            throw new IllegalArgumentException("Field " + field + " wasn't extracted");
+        }
+        return values.get(field);
+    }
+}
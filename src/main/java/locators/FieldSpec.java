@@ -0,0 +1,74 @@
+package locators;
+
+import java.util.Objects;
+
+/**
+ * One value read from every element by {@link ElementExtractor}, e.g.
+ * {@code extractAll(locator, FieldSpec.text(), FieldSpec.href().within(":scope a"))}
+ *
+ * @param kind Value to read
+ * @param attribute Attribute name for {@link Kind#ATTRIBUTE}, null otherwise
+ * @param selector CSS selector of the descendant to read, null to read the element itself
+ */
+public record FieldSpec(Kind kind, String attribute, String selector) {
+
+    public enum Kind {
+        // Rendered text, trimmed like WebElement.getText()
+        TEXT,
+        // Attribute value as written in the markup, null when missing
+        ATTRIBUTE,
+        // Link target resolved to an absolute URL, null for non-links
+        HREF,
+        // Rendered with a size and not hidden by CSS visibility
+        VISIBLE,
+        // Position and size relative to the document, like WebElement.getRect()
+        RECT
+    }
+
+    public FieldSpec {
+        Objects.requireNonNull(kind, "kind");
+        if ((kind == Kind.ATTRIBUTE) != (attribute != null)) {
+            throw new IllegalArgumentException("Only attribute fields have an attribute name");
+        }
+    }
+
+    public static FieldSpec text() {
+        return new FieldSpec(Kind.TEXT, null, null);
+    }
+
+    public static FieldSpec attribute(String name) {
+        return new FieldSpec(Kind.ATTRIBUTE, Objects.requireNonNull(name, "name"), null);
+    }
+
+    public static FieldSpec href() {
+        return new FieldSpec(Kind.HREF, null, null);
+    }
+
+    public static FieldSpec visible() {
+        return new FieldSpec(Kind.VISIBLE, null, null);
+    }
+
+    public static FieldSpec rect() {
+        return new FieldSpec(Kind.RECT, null, null);
+    }
+
+    /**
+     * Read the value from the first descendant matching a CSS selector instead of the element.
+     * Without such descendant the value is null, or false for {@link Kind#VISIBLE}.
+     * <p>
+     * Like querySelector, the selector is matched against the whole document, so e.g.
+     * "section:first-of-type a" also matches through a section around the element. Start it with
+     * :scope to anchor it to the element, e.g. ":scope > section:first-of-type a".
+     *
+     * @param selector CSS selector of the descendant
+     */
+    public FieldSpec within(String selector) {
+        return new FieldSpec(kind, attribute, Objects.requireNonNull(selector, "selector"));
+    }
+
+    @Override
+    public String toString() {
+        String name = kind == Kind.ATTRIBUTE ? "attribute '" + attribute + "'" : kind.name().toLowerCase();
+        return selector != null ? name + " of '" + selector + "'" : name;
+    }
+}
@@ -0,0 +1,26 @@
+package locators;
+
+import org.openqa.selenium.support.FindBy;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Alternative locators of one page element, e.g. its English and Spanish link texts:
+ * <pre>
+ * &#64;FindVariants({&#64;FindBy(linkText = "Log In"), &#64;FindBy(linkText = "Iniciar sesión")})
+ * WebElement loginLink;
+ * </pre>
+ * The element is located by the first variant with a displayed match, see {@link ByVariants}.
+ * Unlike PageFactory's @FindAll, matches of the other variants are not added.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface FindVariants {
+
+    FindBy[] value();
+}
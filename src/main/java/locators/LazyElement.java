@@ -0,0 +1,238 @@
+package locators;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+
+import utils.Constants;
+import waits.cache.ElementStateCache;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Page object element located on use, the generated replacement of PageFactory's element proxies.
+ * <p>
+ * The element is located on first use and its handle is reused by later calls, until the driver
+ * navigates or switches window/frame (signalled by the driver's {@link ElementStateCache}) or the
+ * handle throws StaleElementReferenceException, in which case it is located again and the call
+ * retried once. A missing element throws NoSuchElementException from the call that uses it.
+ * Without a registered cache, or with locators.handle.cache.enabled=false, every call looks the
+ * element up again like PageFactory did.
+ * <p>
+ * Unlike PageFactory's proxies, it is a plain object created by the {@code <Page>Locators} class
+ * generated for the page, without reflection or dynamic proxies.
+ */
+public class LazyElement implements WebElement, WrapsElement, Locatable {
+
+    private final SearchContext context;
+    private final By locator;
+    private final String name;
+    private final ElementLookupStats stats;
+
+    // Source of the navigation epoch, null when handles aren't cached
+    private final ElementStateCache epochs;
+    private volatile Handle handle;
+
+    /**
+     * @param context Driver or element the element is searched from
+     * @param locator Locator of the element
+     * @param name Page and field name, shown in logs and error messages
+     * @param stats Lookup counters of the page
+     */
+    public LazyElement(SearchContext context, By locator, String name, ElementLookupStats stats) {
+        this.context = context;
+        this.locator = locator;
+        this.name = name;
+        this.stats = stats;
+        this.epochs = Constants.isElementHandleCacheEnabled() && context instanceof WebDriver driver
+                ? ElementStateCache.lookup(driver)
+                : null;
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    /**
+     * Look the element up, one WebDriver round-trip. Always a fresh lookup, as the element is
+     * passed on to scripts and actions where a stale handle can't be retried.
+     */
+    @Override
+    public WebElement getWrappedElement() {
+        return locate();
+    }
+
+    @Override
+    public void click() {
+        run(WebElement::click);
+    }
+
+    @Override
+    public void submit() {
+        run(WebElement::submit);
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        run(element -> element.sendKeys(keysToSend));
+    }
+
+    @Override
+    public void clear() {
+        run(WebElement::clear);
+    }
+
+    @Override
+    public String getTagName() {
+        return call(WebElement::getTagName);
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return call(element -> element.getDomProperty(name));
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return call(element -> element.getDomAttribute(name));
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return call(element -> element.getAttribute(name));
+    }
+
+    @Override
+    public String getAriaRole() {
+        return call(WebElement::getAriaRole);
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return call(WebElement::getAccessibleName);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return call(WebElement::isSelected);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return call(WebElement::isEnabled);
+    }
+
+    @Override
+    public String getText() {
+        return call(WebElement::getText);
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return call(element -> element.findElements(by));
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return call(element -> element.findElement(by));
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return call(WebElement::getShadowRoot);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return call(WebElement::isDisplayed);
+    }
+
+    @Override
+    public Point getLocation() {
+        return call(WebElement::getLocation);
+    }
+
+    @Override
+    public Dimension getSize() {
+        return call(WebElement::getSize);
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return call(WebElement::getRect);
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return call(element -> element.getCssValue(propertyName));
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return call(element -> element.getScreenshotAs(target));
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        return call(element -> ((Locatable) element).getCoordinates());
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + locator + ")";
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void run(Consumer<WebElement> command) {
+        call(element -> {
+            command.accept(element);
+            return null;
+        });
+    }
+
+    /**
+     * Run a command on the cached handle if it is still current, otherwise on a fresh lookup
+     */
+    private <T> T call(Function<WebElement, T> command) {
+        Handle cached = handle;
+        if (cached == null || cached.navigationEpoch != epochs.getNavigationEpoch()) {
+            return command.apply(locate());
+        }
+
+        try {
+            T result = command.apply(cached.element);
+            stats.recordReuse();
+            return result;
+        } catch (StaleElementReferenceException e) {
+            stats.recordStaleHandle();
+            handle = null;
+            return command.apply(locate());
+        }
+    }
+
+    private WebElement locate() {
+        // Read before the lookup, a navigation during it must outdate the new handle
+        long navigationEpoch = epochs != null ? epochs.getNavigationEpoch() : 0;
+        WebElement element = context.findElement(locator);
+        stats.recordLookup();
+        if (epochs != null) {
+            handle = new Handle(element, navigationEpoch);
+        }
+        return element;
+    }
+
+    private record Handle(WebElement element, long navigationEpoch) {
+    }
+}
@@ -0,0 +1,118 @@
+package locators;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import utils.Constants;
+import waits.cache.ElementStateCache;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Page object element list located on use, the generated replacement of PageFactory's list proxies.
+ * <p>
+ * A non-empty lookup is reused by the following calls as long as no command changed the page
+ * (the epoch of the driver's {@link ElementStateCache}) and for at most wait.state.cache.ttl,
+ * so e.g. isEmpty(), size() and get(0) in a row issue a single findElements command. Elements
+ * may still appear or disappear on their own, so empty results and older lookups are never
+ * reused. Without a registered cache, or with locators.handle.cache.enabled=false, every call
+ * looks the elements up again.
+ */
+public class LazyElementList extends AbstractList<WebElement> {
+
+    private final SearchContext context;
+    private final By locator;
+    private final String name;
+    private final ElementLookupStats stats;
+
+    // Source of the mutation epoch, null when lookups aren't reused
+    private final ElementStateCache epochs;
+    private final long maxAgeNanos;
+    private volatile Lookup lastLookup;
+
+    /**
+     * @param context Driver or element the elements are searched from
+     * @param locator Locator of the elements
+     * @param name Page and field name, shown in logs and error messages
+     * @param stats Lookup counters of the page
+     */
+    public LazyElementList(SearchContext context, By locator, String name, ElementLookupStats stats) {
+        this.context = context;
+        this.locator = locator;
+        this.name = name;
+        this.stats = stats;
+        this.maxAgeNanos = Constants.getElementStateCacheTtl().toNanos();
+        this.epochs = Constants.isElementHandleCacheEnabled() && maxAgeNanos > 0 && context instanceof WebDriver driver
+                ? ElementStateCache.lookup(driver)
+                : null;
+    }
+
+    public By getLocator() {
+        return locator;
+    }
+
+    /**
+     * Look the elements up, one WebDriver round-trip unless the last lookup is still current
+     *
+     * @return unmodifiable list of the elements
+     */
+    public List<WebElement> find() {
+        if (epochs == null) {
+            stats.recordLookup();
+            return List.copyOf(context.findElements(locator));
+        }
+
+        long epoch = epochs.getEpoch();
+        Lookup last = lastLookup;
+        if (last != null && last.epoch == epoch && System.nanoTime() - last.timestamp < maxAgeNanos) {
+            stats.recordReuse();
+            return last.elements;
+        }
+
+        List<WebElement> elements = List.copyOf(context.findElements(locator));
+        stats.recordLookup();
+        lastLookup = elements.isEmpty() ? null : new Lookup(elements, epoch, System.nanoTime());
+        return elements;
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return find().get(index);
+    }
+
+    @Override
+    public int size() {
+        return find().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return find().isEmpty();
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return find().iterator();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return find().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] array) {
+        return find().toArray(array);
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + locator + ")";
+    }
+
+    private record Lookup(List<WebElement> elements, long epoch, long timestamp) {
+    }
+}
@@ -0,0 +1,64 @@
+package locators;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Locates elements inside scripts, so a script can search and read elements in one round-trip.
+ * <p>
+ * CSS, XPath, tag name and link text locators are supported, By.id, By.className and By.name
+ * included as they are sent as CSS. Other locators, e.g. ByChained or ByIdOrName, aren't.
+ */
+final class ScriptLocator {
+
+    private static final Set<String> SCRIPT_STRATEGIES =
+            Set.of("css selector", "xpath", "tag name", "link text", "partial link text");
+
+    /**
+     * Script functions: locate(using, value) returns an array of the matching elements,
+     * visible(element) tells whether an element is rendered
+     */
+    static final String FUNCTIONS =
+            "function locate(using, value) {" +
+            "  var elements = [];" +
+            "  if (using === 'css selector' || using === 'tag name') {" +
+            "    return Array.prototype.slice.call(document.querySelectorAll(value));" +
+            "  }" +
+            "  if (using === 'xpath') {" +
+            "    var found = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "    for (var i = 0; i < found.snapshotLength; i++) { elements.push(found.snapshotItem(i)); }" +
+            "    return elements;" +
+            "  }" +
+            "  var links = document.querySelectorAll('a');" +
+            "  for (var i = 0; i < links.length; i++) {" +
+            "    var linkText = (links[i].innerText || '').trim();" +
+            "    if (using === 'link text' ? linkText === value : linkText.indexOf(value) >= 0) {" +
+            "      elements.push(links[i]);" +
+            "    }" +
+            "  }" +
+            "  return elements;" +
+            "}" +
+            "function visible(element) {" +
+            "  return element.getClientRects().length > 0 && getComputedStyle(element).visibility !== 'hidden';" +
+            "}";
+
+    private ScriptLocator() {
+    }
+
+    /**
+     * Arguments of locate() for a locator
+     *
+     * @return [using, value], or null if the locator can't be resolved in a script
+     */
+    static List<Object> arguments(By locator) {
+        if (locator instanceof By.Remotable remotable) {
+            By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+            if (SCRIPT_STRATEGIES.contains(parameters.using())) {
+                return List.of(parameters.using(), parameters.value());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,301 @@
+package locators.processor;
+
+import locators.FindVariants;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code <Page>Locators} class for every class with @FindBy fields, replacing the
+ * reflection and dynamic proxies of PageFactory.initElements at page construction time.
+ * Fields with alternative locators use {@link FindVariants} and get a {@link locators.ByVariants}.
+ * <p>
+ * The generated class holds the page's locator table, one {@code By} constant per field, a
+ * {@code bind(page, context)} method setting each field to a {@link locators.LazyElement} or
+ * {@link locators.LazyElementList} counting its lookups in the page's
+ * {@link locators.ElementLookupStats}, and a {@link locators.ElementBinder} {@code BINDER} for
+ * base pages, checking the page type. Fields are set directly, so they must not be private,
+ * static or final. @FindBy accepts the same forms as PageFactory (short attributes or how/using),
+ * invalid declarations fail the compilation instead of the first test that creates the page.
+ * <p>
+ * Registered through META-INF/services, the processor runs when the test sources are compiled.
+ */
+public class LocatorProcessor extends AbstractProcessor {
+
+    private static final String SUFFIX = "Locators";
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(FindBy.class.getCanonicalName(), FindVariants.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<VariableElement>> fieldsByPage = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWithAny(Set.of(FindBy.class, FindVariants.class))) {
+            if (element.getKind() != ElementKind.FIELD) {
+                error(element, "@FindBy and @FindVariants are only supported on fields");
+                continue;
+            }
+            fieldsByPage.computeIfAbsent((TypeElement) element.getEnclosingElement(), page -> new ArrayList<>())
+                    .add((VariableElement) element);
+        }
+
+        for (Map.Entry<TypeElement, List<VariableElement>> entry : fieldsByPage.entrySet()) {
+            generate(entry.getKey(), entry.getValue());
+        }
+        return false;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void generate(TypeElement page, List<VariableElement> fields) {
+        if (page.getNestingKind() != NestingKind.TOP_LEVEL) {
+            error(page, "@FindBy fields are only supported in top-level classes");
+            return;
+        }
+
+        Elements elements = processingEnv.getElementUtils();
+        String packageName = ((PackageElement) page.getEnclosingElement()).getQualifiedName().toString();
+        String pageName = page.getSimpleName().toString();
+        String className = pageName + SUFFIX;
+
+        StringBuilder constants = new StringBuilder();
+        StringBuilder bindings = new StringBuilder();
+        boolean valid = true;
+
+        TypeElement parent = findParentPage(page);
+        if (parent != null) {
+            bindings.append("        ").append(parent.getQualifiedName()).append(SUFFIX)
+                    .append(".bind(page, context);\n");
+        }
+
+        for (VariableElement field : fields) {
+            String fieldName = field.getSimpleName().toString();
+            String elementType = elementType(field);
+            String by = locatorExpression(field);
+            if (elementType == null || by == null || !checkModifiers(field)) {
+                valid = false;
+                continue;
+            }
+
+            String constant = constantName(fieldName);
+            constants.append("    public static final By ").append(constant).append(" = ").append(by).append(";\n");
+            bindings.append("        page.").append(fieldName).append(" = new ").append(elementType)
+                    .append("(context, ").append(constant).append(", ")
+                    .append(elements.getConstantExpression(pageName + "." + fieldName)).append(", stats);\n");
+        }
+
+        if (!valid) {
+            return;
+        }
+
+        String source = "package " + packageName + ";\n\n"
+                + "import javax.annotation.processing.Generated;\n"
+                + "import locators.ElementBinder;\n"
+                + "import locators.ElementLookupStats;\n"
+                + "import locators.LazyElement;\n"
+                + "import locators.LazyElementList;\n"
+                + "import org.openqa.selenium.By;\n"
+                + "import org.openqa.selenium.SearchContext;\n\n"
+                + "/**\n * Locators of the @FindBy fields of {@link " + pageName + "}, generated at compile time\n */\n"
+                + "@Generated(\"" + LocatorProcessor.class.getName() + "\")\n"
+                + "public final class " + className + " {\n\n"
+                + constants + "\n"
+                + "    /**\n     * Binder of the page, e.g. initElements(" + className + ".BINDER)\n     */\n"
+                + "    public static final ElementBinder<" + pageName + "> BINDER = new ElementBinder<>("
+                + pageName + ".class, " + className + "::bind);\n\n"
+                + "    private " + className + "() {\n    }\n\n"
+                + "    /**\n     * Set the element fields of a page, elements are only located when used\n     */\n"
+                + "    public static void bind(" + pageName + " page, SearchContext context) {\n"
+                + "        ElementLookupStats stats = ElementLookupStats.forPage(" + elements.getConstantExpression(pageName)
+                + ");\n"
+                + bindings
+                + "    }\n}\n";
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(packageName + "." + className, page)
+                .openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            error(page, "Could not generate " + className + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Nearest superclass with @FindBy fields, whose generated binder runs first
+     */
+    private TypeElement findParentPage(TypeElement page) {
+        TypeMirror superclass = page.getSuperclass();
+        while (superclass.getKind() == TypeKind.DECLARED) {
+            TypeElement type = (TypeElement) ((DeclaredType) superclass).asElement();
+            for (Element member : type.getEnclosedElements()) {
+                if (member.getKind() == ElementKind.FIELD && (member.getAnnotation(FindBy.class) != null
+                        || member.getAnnotation(FindVariants.class) != null)) {
+                    return type;
+                }
+            }
+            superclass = type.getSuperclass();
+        }
+        return null;
+    }
+
+    /**
+     * Lazy implementation for the field type, null for unsupported types
+     */
+    private String elementType(VariableElement field) {
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+        TypeMirror webElement = elements.getTypeElement(WEB_ELEMENT).asType();
+        TypeMirror listOfWebElements = types.getDeclaredType(elements.getTypeElement(List.class.getName()),
+                webElement);
+
+        if (types.isSameType(field.asType(), webElement)) {
+            return "LazyElement";
+        }
+        if (types.isSameType(field.asType(), listOfWebElements)) {
+            return "LazyElementList";
+        }
+        error(field, "@FindBy fields must be WebElement or List<WebElement>");
+        return null;
+    }
+
+    private boolean checkModifiers(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            error(field, "@FindBy fields must not be private, they are set by the generated " + SUFFIX + " class");
+            return false;
+        }
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+            error(field, "@FindBy fields must not be static or final");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Java expression building the By of a field with @FindBy or @FindVariants, null if invalid
+     */
+    private String locatorExpression(VariableElement field) {
+        FindBy findBy = field.getAnnotation(FindBy.class);
+        FindVariants findVariants = field.getAnnotation(FindVariants.class);
+        if (findBy != null && findVariants != null) {
+            error(field, "@FindBy and @FindVariants can't be combined, add the @FindBy to the variants");
+            return null;
+        }
+        if (findBy != null) {
+            return byExpression(field, findBy);
+        }
+
+        if (findVariants.value().length < 2) {
+            error(field, "@FindVariants needs at least two variants, use @FindBy for a single locator");
+            return null;
+        }
+        List<String> variants = new ArrayList<>();
+        for (FindBy variant : findVariants.value()) {
+            String by = byExpression(field, variant);
+            if (by == null) {
+                return null;
+            }
+            variants.add(by);
+        }
+        return "new locators.ByVariants(" + String.join(", ", variants) + ")";
+    }
+
+    /**
+     * Java expression building the By of a @FindBy, following the rules of PageFactory
+     */
+    private String byExpression(VariableElement field, FindBy findBy) {
+        Elements elements = processingEnv.getElementUtils();
+        List<String> expressions = new ArrayList<>();
+        addShortForm(expressions, "By.id", findBy.id());
+        addShortForm(expressions, "By.name", findBy.name());
+        addShortForm(expressions, "By.className", findBy.className());
+        addShortForm(expressions, "By.cssSelector", findBy.css());
+        addShortForm(expressions, "By.tagName", findBy.tagName());
+        addShortForm(expressions, "By.linkText", findBy.linkText());
+        addShortForm(expressions, "By.partialLinkText", findBy.partialLinkText());
+        addShortForm(expressions, "By.xpath", findBy.xpath());
+
+        if (expressions.size() > 1) {
+            error(field, "@FindBy must specify at most one location strategy");
+            return null;
+        }
+        if (expressions.size() == 1) {
+            return expressions.get(0);
+        }
+
+        if (findBy.how() != How.UNSET && findBy.using().isEmpty()) {
+            error(field, "@FindBy sets 'how' but not 'using'");
+            return null;
+        }
+        if (findBy.how() == How.UNSET && findBy.using().isEmpty()) {
+            error(field, "@FindBy has no locator, set one of its attributes or how and using");
+            return null;
+        }
+
+        String using = elements.getConstantExpression(findBy.using());
+        switch (findBy.how()) {
+            case CLASS_NAME: return "By.className(" + using + ")";
+            case CSS: return "By.cssSelector(" + using + ")";
+            case ID_OR_NAME: return "new org.openqa.selenium.support.pagefactory.ByIdOrName(" + using + ")";
+            case LINK_TEXT: return "By.linkText(" + using + ")";
+            case NAME: return "By.name(" + using + ")";
+            case PARTIAL_LINK_TEXT: return "By.partialLinkText(" + using + ")";
+            case TAG_NAME: return "By.tagName(" + using + ")";
+            case XPATH: return "By.xpath(" + using + ")";
+            default: return "By.id(" + using + ")";
+        }
+    }
+
+    private void addShortForm(List<String> expressions, String factory, String value) {
+        if (!value.isEmpty()) {
+            expressions.add(factory + "(" + processingEnv.getElementUtils().getConstantExpression(value) + ")");
+        }
+    }
+
+    /**
+     * eventCards -> EVENT_CARDS
+     */
+    private static String constantName(String fieldName) {
+        return fieldName.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT);
+    }
+
+    private void error(Element element, String message) {
+        messager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private Messager messager() {
+        return processingEnv.getMessager();
+    }
+}
@@ -0,0 +1,157 @@
+package logging;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Lazy diagnostic values for log statements and error messages that would otherwise cost a
+ * WebDriver round-trip, e.g. the current URL or an element's tag name.
+ * <p>
+ * The returned objects fetch their value the first time toString() is called, so passed as
+ * log parameters they only touch the driver when the statement is actually emitted:
+ * <pre>
+ * log().debug("Waiting on {}", Diagnostics.currentUrl(driver));
+ * </pre>
+ * Each fetch is counted per thread and in total, TestMethodListener reports the count of every
+ * test and warns when it goes over {@code diagnostics.roundtrip.budget}, so a log statement
+ * that starts talking to the browser again shows up. Failed fetches never throw.
+ * <p>
+ * Threads working for a test, e.g. parallel waits, count into the test's budget when their work
+ * is wrapped with {@link #propagate(Runnable)} or {@link #propagate(Callable)}.
+ */
+public final class Diagnostics {
+
+    // Round-trips of the test running on each thread, shared with the threads working for it
+    private static final ThreadLocal<AtomicInteger> TEST_ROUND_TRIPS = ThreadLocal.withInitial(AtomicInteger::new);
+    private static final AtomicLong TOTAL_ROUND_TRIPS = new AtomicLong();
+
+    private Diagnostics() {
+        throw new UnsupportedOperationException("This is a utility class");
+    }
+
+    /**
+     * Current URL of the driver, fetched when first printed
+     */
+    public static Object currentUrl(WebDriver driver) {
+        return lazy("URL", driver::getCurrentUrl);
+    }
+
+    /**
+     * Title of the current page, fetched when first printed
+     */
+    public static Object pageTitle(WebDriver driver) {
+        return lazy("title", driver::getTitle);
+    }
+
+    /**
+     * Tag name of an element, fetched when first printed
+     */
+    public static Object tagName(WebElement element) {
+        return lazy("tag name", element::getTagName);
+    }
+
+    /**
+     * Wrap a WebDriver call so it only runs, and is counted, when the value is printed
+     *
+     * @param description What the value is, used when it can't be fetched
+     * @param fetch Call returning the value
+     * @return object fetching the value on its first toString()
+     */
+    public static Object lazy(String description, Supplier<?> fetch) {
+        return new LazyValue(description, fetch);
+    }
+
+    /**
+     * Reset the round-trip count of the current thread, at the start of a test
+     */
+    public static void startTest() {
+        // A new counter, so threads still working for the previous test don't count into this one
+        TEST_ROUND_TRIPS.set(new AtomicInteger());
+    }
+
+    /**
+     * Round-trips made by diagnostics since startTest(), on the current thread and the threads
+     * whose work was propagated from it
+     */
+    public static int getTestRoundTrips() {
+        return TEST_ROUND_TRIPS.get().get();
+    }
+
+    /**
+     * Make the round-trips of a task count for the test of the calling thread, wherever it runs
+     *
+     * @param task Work to run on another thread
+     * @return task running with the caller's round-trip counter
+     */
+    public static Runnable propagate(Runnable task) {
+        AtomicInteger counter = TEST_ROUND_TRIPS.get();
+        return () -> {
+            AtomicInteger previous = TEST_ROUND_TRIPS.get();
+            TEST_ROUND_TRIPS.set(counter);
+            try {
+                task.run();
+            } finally {
+                TEST_ROUND_TRIPS.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Make the round-trips of a task count for the test of the calling thread, wherever it runs
+     *
+     * @param task Work to run on another thread
+     * @return task running with the caller's round-trip counter
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        AtomicInteger counter = TEST_ROUND_TRIPS.get();
+        return () -> {
+            AtomicInteger previous = TEST_ROUND_TRIPS.get();
+            TEST_ROUND_TRIPS.set(counter);
+            try {
+                return task.call();
+            } finally {
+                TEST_ROUND_TRIPS.set(previous);
+            }
+        };
+    }
+
+    /**
+     * Round-trips made by diagnostics since the start of the run, on all threads
+     */
+    public static long getTotalRoundTrips() {
+        return TOTAL_ROUND_TRIPS.get();
+    }
+
+    // ========== NESTED LAZY VALUE CLASS ==========
+
+    private static final class LazyValue {
+        private final String description;
+        private Supplier<?> fetch;
+        private String value;
+
+        private LazyValue(String description, Supplier<?> fetch) {
+            this.description = description;
+            this.fetch = fetch;
+        }
+
+        @Override
+        public synchronized String toString() {
+            if (fetch != null) {
+                TEST_ROUND_TRIPS.get().incrementAndGet();
+                TOTAL_ROUND_TRIPS.incrementAndGet();
+                try {
+                    value = String.valueOf(fetch.get());
+                } catch (RuntimeException e) {
+                    value = description + " not available";
+                }
+                fetch = null;
+            }
+            return value;
+        }
+    }
+}
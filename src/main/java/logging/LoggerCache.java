@@ -0,0 +1,29 @@
+package logging;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Per-class logger cache behind {@link Logging#log()}.
+ * <p>
+ * A ClassValue stores the logger on the class itself, so after the first call a lookup is a
+ * plain field read, with no logger context lookup, map access or locking, and the entry goes
+ * away with the class. Loggers stay valid across reconfigurations, log4j updates them in place.
+ */
+final class LoggerCache {
+
+    private static final ClassValue<Logger> LOGGERS = new ClassValue<>() {
+        @Override
+        protected Logger computeValue(Class<?> type) {
+            return LogManager.getLogger(type);
+        }
+    };
+
+    private LoggerCache() {
+        throw new UnsupportedOperationException("This is a utility class");
+    }
+
+    static Logger get(Class<?> type) {
+        return LOGGERS.get(type);
+    }
+}
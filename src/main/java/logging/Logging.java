@@ -1,11 +1,13 @@
 package logging;
 
-import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 public interface Logging {
 
+    /**
+     * Logger named after the runtime class, cached per class
+     */
     default Logger log() {
-        return LogManager.getLogger(getClass());
+        return LoggerCache.get(getClass());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,241 @@
+package logging;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.appender.FileAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+import utils.Constants;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the log of each running test in memory and only writes it to disk when the test fails.
+ * <p>
+ * While a test runs, its thread carries two ThreadContext keys: {@value #TEST_KEY}, routing its
+ * events to the test's buffer, and {@value #BUFFERED_KEY}, which makes the File appender of
+ * log4j2.xml skip events below WARN. A passing test thus only leaves its start/finish summary
+ * and warnings in test-execution.log, a failing one gets its full log dumped to
+ * {@code failed-tests/<test>.log} next to it. Each buffer keeps the last
+ * {@code log.buffer.max.events} events, dropping the oldest ones.
+ * <p>
+ * The routing appender is added to every logger when the suite starts, see {@link #install()}.
+ * Disabled with {@code log.buffer.enabled=false}, the File appender gets everything again.
+ */
+public final class TestLogBuffer implements Logging {
+
+    public static final String TEST_KEY = "testLog";
+    public static final String BUFFERED_KEY = "logBuffered";
+
+    private static final TestLogBuffer INSTANCE = new TestLogBuffer();
+    private static final String APPENDER_NAME = "TestLogBuffer";
+    private static final String FILE_APPENDER_NAME = "File";
+    private static final String FAILED_TESTS_DIRECTORY = "failed-tests";
+    private static final Marker END_OF_TEST = MarkerManager.getMarker("TEST_LOG_END");
+    private static final int END_OF_TEST_TIMEOUT_SECONDS = 2;
+
+    private final Map<String, Buffer> buffers = new ConcurrentHashMap<>();
+    private final AtomicLong testCounter = new AtomicLong();
+
+    private volatile Layout layout;
+    private volatile Path logDirectory;
+
+    private TestLogBuffer() {
+    }
+
+    /**
+     * Add the routing appender to every logger of the current configuration.
+     * Does nothing when buffering is disabled or already installed.
+     */
+    public static synchronized void install() {
+        if (!Constants.isLogBufferEnabled()) {
+            return;
+        }
+
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        Configuration configuration = context.getConfiguration();
+        if (configuration.getAppender(APPENDER_NAME) != null) {
+            return;
+        }
+
+        // Buffered logs are written in the format and directory of the File appender
+        Appender fileAppender = configuration.getAppender(FILE_APPENDER_NAME);
+        if (fileAppender instanceof FileAppender) {
+            INSTANCE.layout = fileAppender.getLayout();
+            Path parent = Paths.get(((FileAppender) fileAppender).getFileName()).getParent();
+            INSTANCE.logDirectory = parent != null ? parent : Paths.get(".");
+        } else {
+            INSTANCE.layout = PatternLayout.createDefaultLayout(configuration);
+            INSTANCE.logDirectory = Paths.get("logs");
+        }
+
+        RoutingAppender appender = new RoutingAppender();
+        appender.start();
+        configuration.addAppender(appender);
+        configuration.getRootLogger().addAppender(appender, null, null);
+        for (LoggerConfig loggerConfig : configuration.getLoggers().values()) {
+            loggerConfig.addAppender(appender, null, null);
+        }
+        context.updateLoggers();
+
+        INSTANCE.log().debug("Test logs are buffered, failed tests are written to {}",
+                INSTANCE.logDirectory.resolve(FAILED_TESTS_DIRECTORY));
+    }
+
+    /**
+     * Start buffering the log of a test on the current thread
+     *
+     * @param testName Qualified name of the test
+     */
+    public static void startTest(String testName) {
+        if (INSTANCE.layout == null) {
+            return;
+        }
+
+        // Invocations of the same test can run concurrently, e.g. with a data provider
+        String testId = testName + "-" + INSTANCE.testCounter.incrementAndGet();
+        INSTANCE.buffers.put(testId, new Buffer(Constants.getLogBufferMaxEvents()));
+        ThreadContext.put(TEST_KEY, testId);
+        ThreadContext.put(BUFFERED_KEY, "true");
+    }
+
+    /**
+     * Stop buffering the log of the test running on the current thread
+     *
+     * @param failed true to write the buffered log to a file, false to discard it
+     * @return the file written, or null
+     */
+    public static Path finishTest(boolean failed) {
+        String testId = ThreadContext.get(TEST_KEY);
+        if (testId == null) {
+            return null;
+        }
+
+        Buffer buffer = INSTANCE.buffers.get(testId);
+        if (failed && buffer != null) {
+            INSTANCE.awaitPendingEvents(testId, buffer);
+        }
+
+        ThreadContext.remove(TEST_KEY);
+        ThreadContext.remove(BUFFERED_KEY);
+        INSTANCE.buffers.remove(testId);
+        return failed && buffer != null ? INSTANCE.dump(testId, buffer) : null;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    /**
+     * With async loggers, events of the test may still be queued for the appender thread:
+     * log an end marker through the test's context and wait until it reaches the buffer
+     */
+    private void awaitPendingEvents(String testId, Buffer buffer) {
+        if (!log().isInfoEnabled()) {
+            return;
+        }
+
+        log().info(END_OF_TEST, "End of buffered log of {}", testId);
+        try {
+            if (!buffer.ended.await(END_OF_TEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                log().debug("Last events of {} did not reach its log buffer in time", testId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Path dump(String testId, Buffer buffer) {
+        Path file = logDirectory.resolve(FAILED_TESTS_DIRECTORY)
+                .resolve(testId.replaceAll("[^A-Za-z0-9._-]", "_") + ".log");
+        try {
+            Files.createDirectories(file.getParent());
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                synchronized (buffer) {
+                    if (buffer.dropped > 0) {
+                        writer.write("... " + buffer.dropped + " earlier events dropped (log.buffer.max.events)"
+                                + System.lineSeparator());
+                    }
+                    for (LogEvent event : buffer.events) {
+                        writer.write(String.valueOf(layout.toSerializable(event)));
+                    }
+                }
+            }
+            return file;
+        } catch (IOException e) {
+            log().error("Could not write log of failed test to {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void append(LogEvent event) {
+        String testId = event.getContextData().getValue(TEST_KEY);
+        if (testId == null) {
+            return;
+        }
+
+        Buffer buffer = buffers.get(testId);
+        if (buffer != null) {
+            buffer.add(event.toImmutable());
+            if (event.getMarker() == END_OF_TEST) {
+                buffer.ended.countDown();
+            }
+        }
+    }
+
+    // ========== NESTED APPENDER AND BUFFER CLASSES ==========
+
+    /**
+     * Appender added to every logger, handing events logged during a test to its buffer
+     */
+    private static final class RoutingAppender extends AbstractAppender {
+
+        private RoutingAppender() {
+            super(APPENDER_NAME, null, null, true, null);
+        }
+
+        @Override
+        public void append(LogEvent event) {
+            INSTANCE.append(event);
+        }
+    }
+
+    /**
+     * Last events of one test, written by the test thread and its parallel waits
+     */
+    private static final class Buffer {
+        private final int capacity;
+        private final ArrayDeque<LogEvent> events = new ArrayDeque<>();
+        private final CountDownLatch ended = new CountDownLatch(1);
+        private long dropped;
+
+        private Buffer(int capacity) {
+            this.capacity = capacity;
+        }
+
+        private synchronized void add(LogEvent event) {
+            if (events.size() >= capacity) {
+                events.pollFirst();
+                dropped++;
+            }
+            events.addLast(event);
+        }
+    }
+}
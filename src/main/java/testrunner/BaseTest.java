@@ -1,5 +1,6 @@
 package testrunner;
 
+import listeners.SuiteMetricsListener;
 import listeners.TestMethodListener;
 import logging.Logging;
 import org.openqa.selenium.WebDriver;
@@ -12,20 +13,26 @@ import org.testng.annotations.Parameters;
 
 import driver.DriverFactory;
 import driver.DriverManager;
+import tracing.Span;
+import tracing.Tracing;
 import utils.Constants;
 
-@Listeners(TestMethodListener.class)
+@Listeners({TestMethodListener.class, SuiteMetricsListener.class})
 public abstract class BaseTest implements Logging{
 
     protected static DriverManager driverManager;
 
     @BeforeMethod
+    @SuppressWarnings("try")
     @Parameters({"driverName"})
     protected void setup(@Optional String driverName) {
         String browserToUse = determineBrowser(driverName);
 
         initializeDriverManager(browserToUse);
-        driverManager.getDriver().navigate().to(Constants.getContextUrl());
+        WebDriver driver = driverManager.getDriver();
+        try (Span span = Tracing.span("navigation", "navigateTo").arg("url", Constants.getContextUrl())) {
+            driver.navigate().to(Constants.getContextUrl());
+        }
     }
 
     /** Separating initialization of DriverManager because it's a static class and can have strange behaviors while running tests in parallel.
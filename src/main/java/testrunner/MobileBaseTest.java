@@ -2,12 +2,13 @@ package testrunner;
 
 import driver.DriverFactory;
 import driver.DriverManager;
+import listeners.SuiteMetricsListener;
 import listeners.TestMethodListener;
 import logging.Logging;
 import org.openqa.selenium.WebDriver;
 import org.testng.annotations.*;
 
-@Listeners(TestMethodListener.class)
+@Listeners({TestMethodListener.class, SuiteMetricsListener.class})
 public abstract class MobileBaseTest implements Logging {
 
     protected static DriverManager driverManager;
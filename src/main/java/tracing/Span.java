@@ -0,0 +1,66 @@
+package tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A timed section of a thread's timeline, written as a Chrome trace "complete" event when closed.
+ * <pre>
+ * try (Span span = Tracing.span("wait", "element to be visible").arg("page", "HomePage")) {
+ *     ...
+ * }
+ * </pre>
+ * Methods whose span is only closed, never referenced, add {@code @SuppressWarnings("try")}.
+ * Spans started while tracing is disabled are a shared no-op instance, so instrumented code
+ * costs next to nothing when no trace is recorded. A span must be closed by the thread that
+ * started it.
+ */
+public final class Span implements AutoCloseable {
+
+    static final Span NOOP = new Span(null, null, null);
+
+    private final TraceWriter writer;
+    private final String category;
+    private final String name;
+    private final long startNanos;
+    private List<String> args;
+    private boolean closed;
+
+    Span(TraceWriter writer, String category, String name) {
+        this.writer = writer;
+        this.category = category;
+        this.name = name;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Attach a value shown in the span details, e.g. the page or URL. Null values are skipped.
+     *
+     * @return this span, for chaining
+     */
+    public Span arg(String key, Object value) {
+        if (writer != null && value != null) {
+            if (args == null) {
+                args = new ArrayList<>(4);
+            }
+            args.add(key);
+            args.add(String.valueOf(value));
+        }
+        return this;
+    }
+
+    /**
+     * End the span and queue it for writing. Closing twice has no effect.
+     */
+    @Override
+    public void close() {
+        if (writer == null || closed) {
+            return;
+        }
+        closed = true;
+
+        Thread thread = Thread.currentThread();
+        writer.write(new TraceWriter.TraceEvent(category, name, startNanos, System.nanoTime() - startNanos,
+                thread.getId(), thread.getName(), args));
+    }
+}
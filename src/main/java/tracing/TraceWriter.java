@@ -0,0 +1,201 @@
+package tracing;
+
+import logging.Logging;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams trace events to a file in Chrome trace-event JSON format (an array of events),
+ * viewable in Perfetto or chrome://tracing.
+ * <p>
+ * Test threads only queue finished spans; a background thread writes them as they come,
+ * so the trace never builds up in memory and large suites can be traced. When the writer
+ * falls behind and the queue is full, spans are dropped and counted rather than blocking
+ * the tests. Each thread gets its own track, named after the thread.
+ */
+class TraceWriter implements Logging {
+
+    // Spans queued before new ones are dropped
+    private static final int QUEUE_CAPACITY = 65_536;
+
+    // All spans belong to a single process in the timeline
+    private static final int PROCESS_ID = 1;
+
+    private final Path file;
+    private final long originNanos = System.nanoTime();
+    private final BlockingQueue<TraceEvent> queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final Thread writerThread;
+    private final BufferedWriter out;
+
+    private volatile boolean running = true;
+
+    /**
+     * Create the trace file and start writing
+     *
+     * @param file Trace file, replaced if it exists
+     * @throws IOException if the file can't be created
+     */
+    TraceWriter(Path file) throws IOException {
+        this.file = file;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.out = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+        out.write("[\n");
+        out.write("{\"name\":\"process_name\",\"ph\":\"M\",\"pid\":" + PROCESS_ID
+                + ",\"args\":{\"name\":\"SeleniumEvent tests\"}}");
+
+        this.writerThread = new Thread(this::drain, "trace-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * Queue an event for writing, dropping it if the writer fell too far behind
+     */
+    void write(TraceEvent event) {
+        if (!running || !queue.offer(event)) {
+            droppedEvents.incrementAndGet();
+        }
+    }
+
+    /**
+     * Write the remaining events and close the file
+     */
+    void close() {
+        running = false;
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (droppedEvents.get() > 0) {
+            log().warn("Trace writer fell behind, {} spans were dropped", droppedEvents.get());
+        }
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void drain() {
+        Set<Long> namedThreads = new HashSet<>();
+        StringBuilder line = new StringBuilder(256);
+        try {
+            while (running || !queue.isEmpty()) {
+                TraceEvent event = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    // Idle: make what was written so far visible, e.g. if the JVM dies
+                    out.flush();
+                    continue;
+                }
+
+                line.setLength(0);
+                if (namedThreads.add(event.threadId)) {
+                    line.append(",\n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":").append(PROCESS_ID)
+                            .append(",\"tid\":").append(event.threadId).append(",\"args\":{\"name\":");
+                    appendString(line, event.threadName);
+                    line.append("}}");
+                }
+                appendEvent(line, event);
+                out.write(line.toString());
+            }
+
+            out.write("\n]\n");
+            out.close();
+        } catch (IOException e) {
+            log().error("Could not write trace to {}: {}", file, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void appendEvent(StringBuilder line, TraceEvent event) {
+        line.append(",\n{\"name\":");
+        appendString(line, event.name);
+        line.append(",\"cat\":");
+        appendString(line, event.category);
+        line.append(",\"ph\":\"X\",\"ts\":").append((event.startNanos - originNanos) / 1_000)
+                .append(",\"dur\":").append(event.durationNanos / 1_000)
+                .append(",\"pid\":").append(PROCESS_ID)
+                .append(",\"tid\":").append(event.threadId);
+
+        if (event.args != null) {
+            line.append(",\"args\":{");
+            for (int i = 0; i < event.args.size(); i += 2) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                appendString(line, event.args.get(i));
+                line.append(':');
+                appendString(line, event.args.get(i + 1));
+            }
+            line.append('}');
+        }
+        line.append('}');
+    }
+
+    private static void appendString(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': line.append("\\\""); break;
+                case '\\': line.append("\\\\"); break;
+                case '\n': line.append("\\n"); break;
+                case '\r': line.append("\\r"); break;
+                case '\t': line.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+            }
+        }
+        line.append('"');
+    }
+
+    // ========== NESTED EVENT CLASS ==========
+
+    /**
+     * Finished span waiting to be written
+     */
+    static final class TraceEvent {
+        private final String category;
+        private final String name;
+        private final long startNanos;
+        private final long durationNanos;
+        private final long threadId;
+        private final String threadName;
+        // Alternating keys and values, or null
+        private final List<String> args;
+
+        TraceEvent(String category, String name, long startNanos, long durationNanos, long threadId,
+                   String threadName, List<String> args) {
+            this.category = category;
+            this.name = name;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.threadId = threadId;
+            this.threadName = threadName;
+            this.args = args;
+        }
+    }
+}
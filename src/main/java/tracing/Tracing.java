@@ -0,0 +1,72 @@
+package tracing;
+
+import logging.Logging;
+import utils.Constants;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Entry point of the execution timeline: records spans of driver creation, navigation,
+ * waits, page objects and tests, one track per thread, to a Chrome trace-event file
+ * (see {@code trace.file}) that can be opened in Perfetto or chrome://tracing.
+ * <p>
+ * Tracing is disabled unless a trace file is configured; spans are then no-ops.
+ */
+public final class Tracing implements Logging {
+
+    private static final Tracing INSTANCE = new Tracing();
+
+    private volatile TraceWriter writer;
+
+    private Tracing() {
+    }
+
+    /**
+     * Start writing the trace file configured through Constants. Does nothing when no file is
+     * configured or a trace is already being written.
+     */
+    public static synchronized void start() {
+        String file = Constants.getTraceFile();
+        if (file == null || INSTANCE.writer != null) {
+            return;
+        }
+
+        try {
+            INSTANCE.writer = new TraceWriter(Paths.get(file));
+            INSTANCE.log().info("Recording execution timeline to {}", file);
+        } catch (IOException e) {
+            INSTANCE.log().error("Could not create trace file {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Finish the trace file. Spans still open are not written.
+     */
+    public static synchronized void stop() {
+        TraceWriter current = INSTANCE.writer;
+        if (current == null) {
+            return;
+        }
+
+        INSTANCE.writer = null;
+        current.close();
+        INSTANCE.log().info("Execution timeline written to {}", current.getFile());
+    }
+
+    public static boolean isEnabled() {
+        return INSTANCE.writer != null;
+    }
+
+    /**
+     * Start a span on the current thread, to be closed with try-with-resources
+     *
+     * @param category Kind of span, e.g. "driver", "navigation", "wait", "page" or "test"
+     * @param name Name shown on the timeline
+     * @return the started span, a no-op when tracing is disabled
+     */
+    public static Span span(String category, String name) {
+        TraceWriter current = INSTANCE.writer;
+        return current != null ? new Span(current, category, name) : Span.NOOP;
+    }
+}
@@ -1,7 +1,12 @@
 package utils;
 
 import java.time.Duration;
+import java.util.List;
 
+/**
+ * Framework configuration, read through a {@link FrameworkConfig} snapshot built once at startup.
+ * The getters are plain field reads, call {@link #reload()} to pick up changed properties.
+ */
 public class Constants {
 
     private Constants(){
@@ -9,52 +14,177 @@ public class Constants {
     }
 
     public static final String PROPERTIES_NAME = "event.properties";
-    private static PropertyReader props = new PropertyReader();
+    private static volatile FrameworkConfig config = FrameworkConfig.load(new PropertyReader());
+
+    /**
+     * Current configuration snapshot
+     */
+    public static FrameworkConfig get() {
+        return config;
+    }
+
+    /**
+     * Build a new snapshot from the properties file, environment and system properties, e.g. in a
+     * long-running monitoring session. Code that already read a value keeps it, and the current
+     * snapshot is kept when the new one is invalid.
+     *
+     * @return the new configuration snapshot
+     * @throws IllegalStateException listing every invalid property
+     */
+    public static synchronized FrameworkConfig reload() {
+        config = FrameworkConfig.load(new PropertyReader());
+        return config;
+    }
 
     public static String getContextUrl() {
-        return getPropertyWithFallback("url");
+        return config.contextUrl();
     }
 
     public static String getBrowser() {
-        String browser = getPropertyWithFallback("browser");
-        return browser != null ? browser.toUpperCase() : "CHROME";
+        return config.browser();
     }
 
     public static boolean isHeadless() {
-        String headless = getPropertyWithFallback("headless");
-        return "true".equalsIgnoreCase(headless);
+        return config.headless();
     }
 
-    public static Duration getDefaultTimeout(){
-        String timeout = getPropertyWithFallback("default.timeout");
-        int seconds = timeout != null ? Integer.parseInt(timeout) : 10;
-        return Duration.ofSeconds(seconds);
+    public static Duration getDefaultTimeout() {
+        return config.defaultTimeout();
     }
 
-    public static Duration getElementTimeout(){
-        String timeout = getPropertyWithFallback("element.timeout");
-        int seconds = timeout != null ? Integer.parseInt(timeout) : 8;
-        return Duration.ofSeconds(seconds);
+    public static Duration getElementTimeout() {
+        return config.elementTimeout();
     }
 
-    public static Duration getPageTimeout(){
-        String timeout = getPropertyWithFallback("page.timeout");
-        int seconds = timeout != null? Integer.parseInt(timeout) : 8;
-        return Duration.ofSeconds(seconds);
+    public static Duration getPageTimeout() {
+        return config.pageTimeout();
     }
 
     public static Duration getPollingInterval() {
-        String interval = getPropertyWithFallback("polling.interval");
-        int milliseconds = interval != null ? Integer.parseInt(interval) : 500;
-        return Duration.ofMillis(milliseconds);
+        return config.pollingInterval();
+    }
+
+    public static boolean isParallelWaitsEnabled() {
+        return config.parallelWaitsEnabled();
+    }
+
+    public static Duration getElementStateCacheTtl() {
+        return config.elementStateCacheTtl();
+    }
+
+    public static boolean isElementHandleCacheEnabled() {
+        return config.elementHandleCacheEnabled();
+    }
+
+    public static int getMetricsMaxPageLabels() {
+        return config.metricsMaxPageLabels();
+    }
+
+    public static String getWaitHistoryFile() {
+        return config.waitHistoryFile();
+    }
+
+    public static int getWaitHistoryMaxSamples() {
+        return config.waitHistoryMaxSamples();
+    }
+
+    public static boolean isTimeoutAutoTuneEnabled() {
+        return config.timeoutAutoTuneEnabled();
+    }
+
+    public static double getAutoTuneMultiplier() {
+        return config.autoTuneMultiplier();
+    }
+
+    public static int getAutoTuneMinSamples() {
+        return config.autoTuneMinSamples();
+    }
+
+    public static Duration getAutoTuneFloor() {
+        return config.autoTuneFloor();
+    }
+
+    public static List<String> getAbortUrlPatterns() {
+        return config.abortUrlPatterns();
+    }
+
+    public static List<String> getAbortTitlePatterns() {
+        return config.abortTitlePatterns();
+    }
+
+    public static List<String> getAbortErrorSelectors() {
+        return config.abortErrorSelectors();
+    }
+
+    public static Duration getAbortCheckInterval() {
+        return config.abortCheckInterval();
     }
 
-    private static String getPropertyWithFallback(String propertyName){
-        String systemValue = System.getProperty(propertyName);
-        if(systemValue != null && !systemValue.trim().isEmpty()){
-            return systemValue;
-        }
+    public static int getMetricsHttpPort() {
+        return config.metricsHttpPort();
+    }
+
+    public static String getMetricsTextfilePath() {
+        return config.metricsTextfilePath();
+    }
+
+    public static Duration getMetricsExportInterval() {
+        return config.metricsExportInterval();
+    }
+
+    public static String getJournalDirectory() {
+        return config.journalDirectory();
+    }
+
+    public static int getJournalRegionCount() {
+        return config.journalRegionCount();
+    }
+
+    public static int getJournalRegionRecords() {
+        return config.journalRegionRecords();
+    }
+
+    public static String getPerfBaselineFile() {
+        return config.perfBaselineFile();
+    }
+
+    public static boolean isPerfBaselineUpdateEnabled() {
+        return config.perfBaselineUpdateEnabled();
+    }
+
+    public static double getPerfGateThreshold() {
+        return config.perfGateThreshold();
+    }
+
+    public static double getPerfGateAlpha() {
+        return config.perfGateAlpha();
+    }
+
+    public static int getPerfGateMinSamples() {
+        return config.perfGateMinSamples();
+    }
+
+    public static boolean isPerfGateFailEnabled() {
+        return config.perfGateFailEnabled();
+    }
+
+    public static String getPerfReportFile() {
+        return config.perfReportFile();
+    }
+
+    public static String getTraceFile() {
+        return config.traceFile();
+    }
+
+    public static int getDiagnosticsRoundTripBudget() {
+        return config.diagnosticsRoundTripBudget();
+    }
+
+    public static boolean isLogBufferEnabled() {
+        return config.logBufferEnabled();
+    }
 
-        return props.getString(propertyName);
+    public static int getLogBufferMaxEvents() {
+        return config.logBufferMaxEvents();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,274 @@
+package utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Immutable, validated snapshot of the framework configuration, built once by {@link Constants}.
+ * <p>
+ * Each property is resolved from layered sources, the first one with a non-blank value winning:
+ * <ol>
+ *     <li>system properties, e.g. {@code -Delement.timeout=10}</li>
+ *     <li>environment variables, named after the property in upper case with '_' instead of '.'
+ *     and prefixed with {@value #ENV_PREFIX}, e.g. {@code SELENIUM_EVENT_ELEMENT_TIMEOUT=10}</li>
+ *     <li>{@value Constants#PROPERTIES_NAME}</li>
+ *     <li>the defaults below</li>
+ * </ol>
+ * Values are parsed and checked when the snapshot is built: every invalid property is reported
+ * at once, so a typo fails the run at startup instead of in the middle of a wait.
+ */
+public record FrameworkConfig(
+        // Site and browser
+        String contextUrl,
+        String browser,
+        boolean headless,
+
+        // Wait timeouts
+        Duration defaultTimeout,
+        Duration elementTimeout,
+        Duration pageTimeout,
+        Duration pollingInterval,
+        boolean parallelWaitsEnabled,
+        Duration elementStateCacheTtl,
+        boolean elementHandleCacheEnabled,
+
+        // Wait metrics, history and timeout auto-tuning
+        int metricsMaxPageLabels,
+        String waitHistoryFile,
+        int waitHistoryMaxSamples,
+        boolean timeoutAutoTuneEnabled,
+        double autoTuneMultiplier,
+        int autoTuneMinSamples,
+        Duration autoTuneFloor,
+
+        // Fail-fast abort conditions
+        List<String> abortUrlPatterns,
+        List<String> abortTitlePatterns,
+        List<String> abortErrorSelectors,
+        Duration abortCheckInterval,
+
+        // OpenMetrics export, null path and port 0 when disabled
+        int metricsHttpPort,
+        String metricsTextfilePath,
+        Duration metricsExportInterval,
+
+        // Binary journal, null directory when disabled
+        String journalDirectory,
+        int journalRegionCount,
+        int journalRegionRecords,
+
+        // Performance regression gate
+        String perfBaselineFile,
+        boolean perfBaselineUpdateEnabled,
+        double perfGateThreshold,
+        double perfGateAlpha,
+        int perfGateMinSamples,
+        boolean perfGateFailEnabled,
+        String perfReportFile,
+
+        // Tracing and logging, null trace file when disabled
+        String traceFile,
+        int diagnosticsRoundTripBudget,
+        boolean logBufferEnabled,
+        int logBufferMaxEvents) {
+
+    // Keeps generic variables like BROWSER or URL from changing the configuration
+    public static final String ENV_PREFIX = "SELENIUM_EVENT_";
+
+    public FrameworkConfig {
+        abortUrlPatterns = List.copyOf(abortUrlPatterns);
+        abortTitlePatterns = List.copyOf(abortTitlePatterns);
+        abortErrorSelectors = List.copyOf(abortErrorSelectors);
+    }
+
+    /**
+     * Resolve and validate every property
+     *
+     * @param file Properties read from the properties file
+     * @return the configuration snapshot
+     * @throws IllegalStateException listing every invalid property
+     */
+    static FrameworkConfig load(PropertyReader file) {
+        Layers layers = new Layers(file);
+
+        FrameworkConfig config = new FrameworkConfig(
+                layers.string("url", null),
+                layers.string("browser", "CHROME").toUpperCase(Locale.ROOT),
+                layers.bool("headless", false),
+
+                layers.seconds("default.timeout", 10),
+                layers.seconds("element.timeout", 8),
+                layers.seconds("page.timeout", 8),
+                layers.millis("polling.interval", 500),
+                layers.bool("wait.parallel.enabled", true),
+                layers.millis("wait.state.cache.ttl", 200),
+                layers.bool("locators.handle.cache.enabled", true),
+
+                layers.integer("wait.metrics.max.pages", 100),
+                layers.string("wait.history.file", "wait-history/wait-latencies.tsv"),
+                layers.integer("wait.history.max.samples", 200),
+                layers.bool("wait.autotune.enabled", false),
+                layers.decimal("wait.autotune.multiplier", 3.0),
+                layers.integer("wait.autotune.min.samples", 20),
+                layers.millis("wait.autotune.floor", 1000),
+
+                layers.list("abort.url.patterns"),
+                layers.list("abort.title.patterns"),
+                layers.list("abort.error.selectors"),
+                layers.millis("abort.check.interval", 1000),
+
+                layers.integer("metrics.http.port", 0),
+                layers.string("metrics.textfile.path", null),
+                layers.seconds("metrics.export.interval", 15),
+
+                layers.string("journal.dir", null),
+                layers.integer("journal.regions", 16),
+                layers.integer("journal.region.records", 65536),
+
+                layers.string("perf.baseline.file", "perf-baseline/wait-baseline.tsv"),
+                layers.bool("perf.baseline.update", true),
+                layers.decimal("perf.gate.threshold", 0.2),
+                layers.decimal("perf.gate.alpha", 0.01),
+                layers.integer("perf.gate.min.samples", 10),
+                layers.bool("perf.gate.fail", false),
+                layers.string("perf.report.file", "target/perf-regression-report.txt"),
+
+                layers.string("trace.file", null),
+                layers.integer("diagnostics.roundtrip.budget", 5),
+                layers.bool("log.buffer.enabled", true),
+                layers.integer("log.buffer.max.events", 5000));
+
+        config.validate(layers.errors);
+        if (!layers.errors.isEmpty()) {
+            throw new IllegalStateException("Invalid configuration: " + String.join("; ", layers.errors));
+        }
+        return config;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private void validate(List<String> errors) {
+        check(errors, isPositive(defaultTimeout), "default.timeout must be positive");
+        check(errors, isPositive(elementTimeout), "element.timeout must be positive");
+        check(errors, isPositive(pageTimeout), "page.timeout must be positive");
+        check(errors, isPositive(pollingInterval), "polling.interval must be positive");
+        check(errors, !elementStateCacheTtl.isNegative(), "wait.state.cache.ttl can't be negative");
+        check(errors, metricsMaxPageLabels > 0, "wait.metrics.max.pages must be positive");
+        check(errors, waitHistoryMaxSamples > 0, "wait.history.max.samples must be positive");
+        check(errors, autoTuneMultiplier > 0, "wait.autotune.multiplier must be positive");
+        check(errors, autoTuneMinSamples > 0, "wait.autotune.min.samples must be positive");
+        check(errors, !autoTuneFloor.isNegative(), "wait.autotune.floor can't be negative");
+        check(errors, isPositive(abortCheckInterval), "abort.check.interval must be positive");
+        check(errors, metricsHttpPort >= 0 && metricsHttpPort <= 65535,
+                "metrics.http.port must be between 0 and 65535");
+        check(errors, isPositive(metricsExportInterval), "metrics.export.interval must be positive");
+        check(errors, journalRegionCount > 0, "journal.regions must be positive");
+        check(errors, journalRegionRecords > 0, "journal.region.records must be positive");
+        check(errors, perfGateThreshold >= 0, "perf.gate.threshold can't be negative");
+        check(errors, perfGateAlpha > 0 && perfGateAlpha < 1, "perf.gate.alpha must be between 0 and 1");
+        check(errors, perfGateMinSamples > 0, "perf.gate.min.samples must be positive");
+        check(errors, diagnosticsRoundTripBudget >= 0, "diagnostics.roundtrip.budget can't be negative");
+        check(errors, logBufferMaxEvents > 0, "log.buffer.max.events must be positive");
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return !duration.isNegative() && !duration.isZero();
+    }
+
+    private static void check(List<String> errors, boolean valid, String error) {
+        if (!valid) {
+            errors.add(error);
+        }
+    }
+
+    // ========== NESTED LAYERS CLASS ==========
+
+    /**
+     * Resolves raw values through the layers and parses them, collecting parse errors
+     */
+    private static final class Layers {
+        private final PropertyReader file;
+        private final List<String> errors = new ArrayList<>();
+
+        private Layers(PropertyReader file) {
+            this.file = file;
+        }
+
+        private String raw(String name) {
+            String value = System.getProperty(name);
+            if (isBlank(value)) {
+                value = System.getenv(ENV_PREFIX + name.toUpperCase(Locale.ROOT).replace('.', '_'));
+            }
+            if (isBlank(value)) {
+                value = file.getString(name);
+            }
+            return isBlank(value) ? null : value.trim();
+        }
+
+        private String string(String name, String defaultValue) {
+            String value = raw(name);
+            return value != null ? value : defaultValue;
+        }
+
+        private boolean bool(String name, boolean defaultValue) {
+            String value = raw(name);
+            return value != null ? "true".equalsIgnoreCase(value) : defaultValue;
+        }
+
+        private int integer(String name, int defaultValue) {
+            return parse(name, defaultValue, Integer::parseInt);
+        }
+
+        private double decimal(String name, double defaultValue) {
+            return parse(name, defaultValue, Double::parseDouble);
+        }
+
+        private Duration seconds(String name, int defaultSeconds) {
+            return Duration.ofSeconds(integer(name, defaultSeconds));
+        }
+
+        private Duration millis(String name, int defaultMillis) {
+            return Duration.ofMillis(integer(name, defaultMillis));
+        }
+
+        /**
+         * Read a list property whose values are separated by ';'
+         */
+        private List<String> list(String name) {
+            String value = raw(name);
+            if (value == null) {
+                return Collections.emptyList();
+            }
+
+            List<String> values = new ArrayList<>();
+            for (String item : value.split(";")) {
+                if (!item.trim().isEmpty()) {
+                    values.add(item.trim());
+                }
+            }
+            return values;
+        }
+
+        private <T> T parse(String name, T defaultValue, Function<String, T> parser) {
+            String value = raw(name);
+            if (value == null) {
+                return defaultValue;
+            }
+
+            try {
+                return parser.apply(value);
+            } catch (NumberFormatException e) {
+                errors.add(name + " is not a number: '" + value + "'");
+                return defaultValue;
+            }
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.trim().isEmpty();
+        }
+    }
+}
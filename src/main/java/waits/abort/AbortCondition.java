@@ -0,0 +1,32 @@
+package waits.abort;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Condition that, when matched, makes a running wait stop immediately instead of
+ * sitting out its full timeout - e.g. the site returned an error or captcha page.
+ * <p>
+ * Conditions are evaluated against a {@link PageSnapshot} gathered once per check,
+ * so adding conditions doesn't add round-trips to the driver.
+ */
+public interface AbortCondition {
+
+    /**
+     * Evaluate the condition against the current page
+     *
+     * @param snapshot URL, title and error selectors present on the current page
+     * @return a description of why the wait must abort, or null if it can continue
+     */
+    String check(PageSnapshot snapshot);
+
+    /**
+     * CSS selectors this condition needs to know about.
+     * They are looked up on the page while gathering the snapshot.
+     *
+     * @return selectors whose presence this condition inspects
+     */
+    default Collection<String> getSelectors() {
+        return Collections.emptyList();
+    }
+}
@@ -0,0 +1,61 @@
+package waits.abort;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.regex.Pattern;
+
+/**
+ * Factory methods for the built-in abort conditions
+ */
+public final class AbortConditions {
+
+    private AbortConditions() {
+        throw new UnsupportedOperationException("This is a utility class");
+    }
+
+    /**
+     * Abort when the current URL matches a pattern
+     *
+     * @param urlPattern Regex searched in the current URL
+     * @return abort condition
+     */
+    public static AbortCondition urlMatches(Pattern urlPattern) {
+        return snapshot -> snapshot.url() != null && urlPattern.matcher(snapshot.url()).find()
+                ? "URL '" + snapshot.url() + "' matches error pattern '" + urlPattern + "'"
+                : null;
+    }
+
+    /**
+     * Abort when the page title matches a pattern
+     *
+     * @param titlePattern Regex searched in the page title
+     * @return abort condition
+     */
+    public static AbortCondition titleMatches(Pattern titlePattern) {
+        return snapshot -> snapshot.title() != null && titlePattern.matcher(snapshot.title()).find()
+                ? "page title '" + snapshot.title() + "' matches error pattern '" + titlePattern + "'"
+                : null;
+    }
+
+    /**
+     * Abort when an element matching a CSS selector is present on the page
+     *
+     * @param cssSelector Selector of a known error element
+     * @return abort condition
+     */
+    public static AbortCondition elementPresent(String cssSelector) {
+        return new AbortCondition() {
+            @Override
+            public String check(PageSnapshot snapshot) {
+                return snapshot.presentSelectors().contains(cssSelector)
+                        ? "error element '" + cssSelector + "' is present on " + snapshot.url()
+                        : null;
+            }
+
+            @Override
+            public Collection<String> getSelectors() {
+                return Collections.singletonList(cssSelector);
+            }
+        };
+    }
+}
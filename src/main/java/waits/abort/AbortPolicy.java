@@ -0,0 +1,194 @@
+package waits.abort;
+
+import logging.Logging;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import utils.Constants;
+import waits.core.DriverPlatform;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * Set of abort conditions evaluated alongside waits.
+ * <p>
+ * Conditions are only checked while the guarded condition is not met yet, and at most
+ * once per check interval, so healthy waits never pay for them. When a check is due,
+ * URL, title and the presence of every error selector are gathered with a single script.
+ * Native mobile sessions are not checked.
+ * <p>
+ * Usage example:
+ * AbortPolicy.fromConfiguration().add(AbortConditions.titleMatches(Pattern.compile("Maintenance")));
+ */
+public class AbortPolicy implements Logging {
+
+    private static final String SNAPSHOT_SCRIPT =
+            "var selectors = arguments[0], present = [];" +
+            "for (var i = 0; i < selectors.length; i++) {" +
+            "  try { if (document.querySelector(selectors[i])) { present.push(selectors[i]); } } catch (e) {}" +
+            "}" +
+            "return [location.href, document.title, present];";
+
+    private final List<AbortCondition> conditions = new CopyOnWriteArrayList<>();
+    private final long checkIntervalNanos;
+
+    /**
+     * Create an empty policy
+     *
+     * @param checkInterval Minimum time between two checks within the same wait
+     */
+    public AbortPolicy(Duration checkInterval) {
+        this.checkIntervalNanos = checkInterval.toNanos();
+    }
+
+    /**
+     * Create a policy without conditions - waits always run until success or timeout
+     *
+     * @return empty AbortPolicy
+     */
+    public static AbortPolicy none() {
+        return new AbortPolicy(Duration.ZERO);
+    }
+
+    /**
+     * Create a policy from the URL, title and selector patterns configured for the site
+     *
+     * @return AbortPolicy with the configured conditions
+     */
+    public static AbortPolicy fromConfiguration() {
+        AbortPolicy policy = new AbortPolicy(Constants.getAbortCheckInterval());
+
+        for (String urlPattern : Constants.getAbortUrlPatterns()) {
+            policy.add(AbortConditions.urlMatches(Pattern.compile(urlPattern)));
+        }
+        for (String titlePattern : Constants.getAbortTitlePatterns()) {
+            policy.add(AbortConditions.titleMatches(Pattern.compile(titlePattern)));
+        }
+        for (String selector : Constants.getAbortErrorSelectors()) {
+            policy.add(AbortConditions.elementPresent(selector));
+        }
+
+        return policy;
+    }
+
+    /**
+     * Add a condition to the policy
+     *
+     * @param condition Condition that makes waits abort when matched
+     * @return this policy for method chaining
+     */
+    public AbortPolicy add(AbortCondition condition) {
+        conditions.add(condition);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return conditions.isEmpty();
+    }
+
+    /**
+     * Wrap a condition so that abort conditions are evaluated while it is not met
+     *
+     * @param condition Condition being waited for
+     * @return condition that throws WaitAbortedException when an abort condition matches
+     */
+    public <T> ExpectedCondition<T> guard(ExpectedCondition<T> condition) {
+        if (conditions.isEmpty()) {
+            return condition;
+        }
+
+        return new ExpectedCondition<T>() {
+            // Per-wait state - the first unsuccessful poll always checks
+            private long lastCheckNanos = System.nanoTime() - checkIntervalNanos;
+
+            @Override
+            public T apply(WebDriver driver) {
+                T result;
+                try {
+                    result = condition.apply(driver);
+                } catch (RuntimeException e) {
+                    // Element lookups fail on error pages too, check before the exception is ignored
+                    checkIfDue(driver);
+                    throw e;
+                }
+
+                if (result == null || Boolean.FALSE.equals(result)) {
+                    checkIfDue(driver);
+                }
+                return result;
+            }
+
+            private void checkIfDue(WebDriver driver) {
+                long now = System.nanoTime();
+                if (now - lastCheckNanos >= checkIntervalNanos) {
+                    lastCheckNanos = now;
+                    check(driver);
+                }
+            }
+
+            @Override
+            public String toString() {
+                return condition.toString();
+            }
+        };
+    }
+
+    /**
+     * Evaluate all conditions against the current page
+     *
+     * @param driver WebDriver instance to inspect
+     * @throws WaitAbortedException if any condition matches
+     */
+    public void check(WebDriver driver) {
+        if (conditions.isEmpty() || DriverPlatform.isMobile(driver) || !(driver instanceof JavascriptExecutor)) {
+            return;
+        }
+
+        PageSnapshot snapshot = takeSnapshot((JavascriptExecutor) driver);
+        if (snapshot == null) {
+            return;
+        }
+
+        for (AbortCondition condition : conditions) {
+            String reason = condition.check(snapshot);
+            if (reason != null) {
+                log().warn("Aborting wait: {}", reason);
+                throw new WaitAbortedException("Wait aborted because " + reason);
+            }
+        }
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    /**
+     * Gather URL, title and present error selectors in one round-trip
+     */
+    @SuppressWarnings("unchecked")
+    private PageSnapshot takeSnapshot(JavascriptExecutor js) {
+        Set<String> selectors = new LinkedHashSet<>();
+        for (AbortCondition condition : conditions) {
+            selectors.addAll(condition.getSelectors());
+        }
+
+        try {
+            List<Object> result = (List<Object>) js.executeScript(SNAPSHOT_SCRIPT, new ArrayList<>(selectors));
+            Set<String> present = result.get(2) != null
+                    ? new HashSet<>((List<String>) result.get(2))
+                    : Collections.emptySet();
+
+            return new PageSnapshot((String) result.get(0), (String) result.get(1), present);
+        } catch (Exception e) {
+            // The page may be navigating - the next check will try again
+            log().debug("Could not take page snapshot for abort checks: {}", e.getMessage());
+            return null;
+        }
+    }
+}
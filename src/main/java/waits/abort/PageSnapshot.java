@@ -0,0 +1,13 @@
+package waits.abort;
+
+import java.util.Set;
+
+/**
+ * State of the current page gathered for abort checks
+ *
+ * @param url Current URL
+ * @param title Current page title
+ * @param presentSelectors Error selectors that matched at least one element
+ */
+public record PageSnapshot(String url, String title, Set<String> presentSelectors) {
+}
@@ -0,0 +1,15 @@
+package waits.abort;
+
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Thrown when a wait stops early because an abort condition matched
+ */
+public class WaitAbortedException extends WebDriverException {
+
+    private static final long serialVersionUID = 1L;
+
+    public WaitAbortedException(String message) {
+        super(message);
+    }
+}
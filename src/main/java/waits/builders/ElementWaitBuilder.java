@@ -1,5 +1,8 @@
 package waits.builders;
 
+import events.WaitEvent;
+import locators.LazyElement;
+import logging.Diagnostics;
 import logging.Logging;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -7,10 +10,22 @@ import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.TimeoutException;
+import waits.cache.CachedConditions;
+import waits.cache.ElementStateCache;
+import waits.conditions.SettleConditions;
+import waits.abort.AbortPolicy;
+import waits.abort.WaitAbortedException;
 import waits.core.WaitBuilder;
+import waits.core.WaitManager;
+import waits.core.WaitTimeoutException;
+import waits.metrics.WaitCondition;
+import waits.metrics.WaitLabels;
 import waits.metrics.WaitMetrics;
 import utils.Constants;
+import tracing.Span;
+import tracing.Tracing;
 
+import java.lang.reflect.Proxy;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
@@ -23,7 +38,7 @@ import java.util.function.Supplier;
  * Provides a chainable API for waiting on WebElement conditions.
  * <p>
  * Usage example:
- * waitFor(loginButton).toBeClickable().withTimeout(10);
+ * waitFor(loginButton).withTimeout(10).toBeClickable();
  */
 public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logging {
 
@@ -31,11 +46,14 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
     private final WebDriver driver;
     private final WebElement element;
     private final WaitMetrics metrics;
+    private final ElementStateCache stateCache;
 
     // Configuration state - built through fluent methods
     private Duration timeout;
     private Duration pollingInterval;
     private String customMessage;
+    private String pageName;
+    private AbortPolicy abortPolicy;
     private Set<Class<? extends Exception>> ignoredExceptions;
 
     // Wait execution state
@@ -50,17 +68,34 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
      * @param metrics Metrics collector for performance monitoring
      */
     public ElementWaitBuilder(WebDriver driver, WebElement element, WebDriverWait defaultWait, WaitMetrics metrics) {
+        this(driver, element, defaultWait, metrics, ElementStateCache.forDriver(driver));
+    }
+
+    /**
+     * Constructor - typically called by WaitManager, not directly by users
+     *
+     * @param driver WebDriver instance to use for waiting
+     * @param element WebElement to wait for
+     * @param defaultWait Pre-configured WebDriverWait with default settings
+     * @param metrics Metrics collector for performance monitoring
+     * @param stateCache Per-driver cache used to read element state
+     */
+    public ElementWaitBuilder(WebDriver driver, WebElement element, WebDriverWait defaultWait, WaitMetrics metrics,
+                              ElementStateCache stateCache) {
         this.driver = driver;
         this.element = element;
         this.webDriverWait = defaultWait;
         this.metrics = metrics;
+        this.stateCache = stateCache;
 
         // Initialize with default values from Constants
         this.timeout = Constants.getElementTimeout();
         this.pollingInterval = Constants.getPollingInterval();
         this.ignoredExceptions = new HashSet<>();
+        this.pageName = WaitMetrics.UNKNOWN_PAGE;
+        this.abortPolicy = AbortPolicy.none();
 
-        log().debug("ElementWaitBuilder created for element: {}", element.getTagName());
+        log().debug("ElementWaitBuilder created for element: {}", Diagnostics.tagName(element));
     }
 
     // ========== CONDITION METHODS - These execute the wait immediately ==========
@@ -70,8 +105,8 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
      * @return this builder for potential further chaining
      */
     public ElementWaitBuilder toBeClickable() {
-        String conditionName = "element to be clickable";
-        executeWait(() -> ExpectedConditions.elementToBeClickable(element), conditionName);
+        executeWait(() -> CachedConditions.elementToBeClickable(stateCache, element),
+                WaitCondition.ELEMENT_CLICKABLE, null);
         return this;
     }
 
@@ -80,8 +115,7 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
      * @return this builder for potential further chaining
      */
     public ElementWaitBuilder toBeVisible() {
-        String conditionName = "element to be visible";
-        executeWait(() -> ExpectedConditions.visibilityOf(element), conditionName);
+        executeWait(() -> CachedConditions.visibilityOf(stateCache, element), WaitCondition.ELEMENT_VISIBLE, null);
         return this;
     }
 
@@ -90,8 +124,7 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
      * @return this builder for potential further chaining
      */
     public ElementWaitBuilder toBeInvisible() {
-        String conditionName = "element to be invisible";
-        executeWait(() -> ExpectedConditions.invisibilityOf(element), conditionName);
+        executeWait(() -> CachedConditions.invisibilityOf(stateCache, element), WaitCondition.ELEMENT_INVISIBLE, null);
         return this;
     }
 
@@ -101,8 +134,8 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
      * @return this builder for potential further chaining
      */
     public ElementWaitBuilder toHaveText(String text) {
-        String conditionName = "element to have text '" + text + "'";
-        executeWait(() -> ExpectedConditions.textToBePresentInElement(element, text), conditionName);
+        executeWait(() -> CachedConditions.textToBePresentInElement(stateCache, element, text),
+                WaitCondition.ELEMENT_TEXT, text);
         return this;
     }
 
@@ -112,8 +145,8 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
      * @return this builder for potential further chaining
      */
     public ElementWaitBuilder toContainText(String partialText) {
-        String conditionName = "element to contain text '" + partialText + "'";
-        executeWait(() -> ExpectedConditions.textToBePresentInElement(element, partialText), conditionName);
+        executeWait(() -> CachedConditions.textToBePresentInElement(stateCache, element, partialText),
+                WaitCondition.ELEMENT_CONTAINS_TEXT, partialText);
         return this;
     }
 
@@ -124,8 +157,8 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
      * @return this builder for potential further chaining
      */
     public ElementWaitBuilder toHaveAttribute(String attribute, String value) {
-        String conditionName = "element to have attribute '" + attribute + "' with value '" + value + "'";
-        executeWait(() -> ExpectedConditions.attributeToBe(element, attribute, value), conditionName);
+        executeWait(() -> ExpectedConditions.attributeToBe(element, attribute, value),
+                WaitCondition.ELEMENT_ATTRIBUTE, "'" + attribute + "' with value '" + value + "'");
         return this;
     }
 
@@ -134,8 +167,7 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
      * @return this builder for potential further chaining
      */
     public ElementWaitBuilder toBeSelected() {
-        String conditionName = "element to be selected";
-        executeWait(() -> ExpectedConditions.elementToBeSelected(element), conditionName);
+        executeWait(() -> ExpectedConditions.elementToBeSelected(element), WaitCondition.ELEMENT_SELECTED, null);
         return this;
     }
 
@@ -144,8 +176,26 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
      * @return this builder for potential further chaining
      */
     public ElementWaitBuilder toBeStale() {
-        String conditionName = "element to become stale";
-        executeWait(() -> ExpectedConditions.stalenessOf(element), conditionName);
+        executeWait(() -> ExpectedConditions.stalenessOf(element), WaitCondition.ELEMENT_STALE, null);
+        return this;
+    }
+
+    /**
+     * Wait for element to be inside the viewport and to stop moving.
+     * Use it after a smooth scroll instead of a fixed sleep.
+     * @return this builder for potential further chaining
+     */
+    public ElementWaitBuilder toBeScrolledIntoView() {
+        executeWait(() -> SettleConditions.scrolledIntoView(element), WaitCondition.ELEMENT_SCROLLED_INTO_VIEW, null);
+        return this;
+    }
+
+    /**
+     * Wait for element position and size to stop changing (animations, transitions, screen changes)
+     * @return this builder for potential further chaining
+     */
+    public ElementWaitBuilder toSettle() {
+        executeWait(() -> SettleConditions.settled(element), WaitCondition.ELEMENT_SETTLED, null);
         return this;
     }
 
@@ -159,14 +209,18 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
     @Override
     public ElementWaitBuilder withTimeout(Duration duration) {
         this.timeout = duration;
-        log().debug("Timeout configured: {}s", duration.getSeconds());
+        if (log().isDebugEnabled()) {
+            log().debug("Timeout configured: {}s", duration.getSeconds());
+        }
         return this;
     }
 
     @Override
     public ElementWaitBuilder withPollingInterval(Duration duration) {
         this.pollingInterval = duration;
-        log().debug("Polling interval configured: {}ms", duration.toMillis());
+        if (log().isDebugEnabled()) {
+            log().debug("Polling interval configured: {}ms", duration.toMillis());
+        }
         return this;
     }
 
@@ -177,6 +231,18 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
         return this;
     }
 
+    @Override
+    public ElementWaitBuilder onPage(String pageName) {
+        this.pageName = pageName;
+        return this;
+    }
+
+    @Override
+    public ElementWaitBuilder withAbortPolicy(AbortPolicy abortPolicy) {
+        this.abortPolicy = abortPolicy;
+        return this;
+    }
+
     @Override
     @SafeVarargs
     public final ElementWaitBuilder ignoring(Class<? extends Exception>... exceptionTypes) {
@@ -192,18 +258,31 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
      * This is where Selenium's WebDriverWait gets configured and executed.
      *
      * @param conditionSupplier Supplier that provides the ExpectedCondition
-     * @param conditionName Human-readable name for logging and metrics
+     * @param condition Condition template used for metrics
+     * @param argument Runtime value of the condition (expected text...), or null
      */
-    private void executeWait(Supplier<ExpectedCondition<?>> conditionSupplier, String conditionName) {
+    private void executeWait(Supplier<ExpectedCondition<?>> conditionSupplier, WaitCondition condition,
+                             String argument) {
+        WaitLabels labels = new WaitLabels(pageName, describeLocator(), argument);
+
+        // Timeout may be shortened from historical latencies when auto-tuning is enabled
+        Duration effectiveTimeout = metrics.tuneTimeout(condition, labels, timeout);
+
         // Record start time for metrics
         Instant startTime = Instant.now();
+        WaitEvent event = new WaitEvent();
+        event.begin();
+        Span span = Tracing.span("wait", condition.getMetricName()).arg("page", labels.getPageName())
+                .arg("argument", argument);
 
         try {
-            log().debug("Starting wait for: {} (timeout: {}s, polling: {}ms)",
-                    conditionName, timeout.getSeconds(), pollingInterval.toMillis());
+            if (log().isDebugEnabled()) {
+                log().debug("Starting wait for: {} (timeout: {}ms, polling: {}ms)",
+                        condition.describe(argument), effectiveTimeout.toMillis(), pollingInterval.toMillis());
+            }
 
             // Create a fresh WebDriverWait with current configuration
-            WebDriverWait configuredWait = new WebDriverWait(driver, timeout);
+            WebDriverWait configuredWait = new WebDriverWait(driver, effectiveTimeout);
             configuredWait.pollingEvery(pollingInterval);
 
             // Apply ignored exceptions if any were specified
@@ -211,51 +290,92 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
                 configuredWait.ignoreAll(ignoredExceptions);
             }
 
-            // Execute the actual wait
-            configuredWait.until(conditionSupplier.get());
+            // Execute the actual wait, stopping early if an abort condition matches
+            configuredWait.until(abortPolicy.guard(conditionSupplier.get()));
 
             // Calculate duration for metrics
             Duration waitDuration = Duration.between(startTime, Instant.now());
 
-            log().debug("Wait completed successfully for: {} (took: {}ms)",
-                    conditionName, waitDuration.toMillis());
+            if (log().isDebugEnabled()) {
+                log().debug("Wait completed successfully for: {} (took: {}ms)",
+                        condition.describe(argument), waitDuration.toMillis());
+            }
 
             // Record successful wait in metrics
-            metrics.recordSuccessfulWait(conditionName, waitDuration);
+            metrics.recordSuccessfulWait(condition, labels, waitDuration);
+            event.complete(condition, labels, effectiveTimeout, WaitEvent.OUTCOME_SUCCESS);
 
         } catch (TimeoutException e) {
             Duration waitDuration = Duration.between(startTime, Instant.now());
 
-            // Create meaningful error message
-            String errorMessage = buildTimeoutErrorMessage(conditionName, e);
+            // Create meaningful error message, the element's tag is only fetched when it's read
+            String errorMessage = buildTimeoutErrorMessage(condition.describe(argument), effectiveTimeout);
 
             log().warn("Wait timed out for: {} (after: {}ms) - {}",
-                    conditionName, waitDuration.toMillis(), errorMessage);
+                    condition.describe(argument), waitDuration.toMillis(), errorMessage);
 
             // Record failed wait in metrics
-            metrics.recordFailedWait(conditionName, waitDuration, e.getMessage());
+            metrics.recordFailedWait(condition, labels, waitDuration, e.getMessage());
+            event.complete(condition, labels, effectiveTimeout, WaitEvent.OUTCOME_TIMEOUT);
 
             // Re-throw with enhanced message
-            throw new TimeoutException(errorMessage, e);
+            throw new WaitTimeoutException(errorMessage, () -> "element: " + Diagnostics.tagName(element), e);
+
+        } catch (WaitAbortedException e) {
+            Duration waitDuration = Duration.between(startTime, Instant.now());
+
+            log().warn("Wait aborted for: {} (after: {}ms) - {}",
+                    condition.describe(argument), waitDuration.toMillis(), e.getRawMessage());
+
+            // Record failed wait in metrics
+            metrics.recordFailedWait(condition, labels, waitDuration, e.getRawMessage());
+            event.complete(condition, labels, effectiveTimeout, WaitEvent.OUTCOME_ABORTED);
+
+            throw e;
 
         } catch (Exception e) {
             Duration waitDuration = Duration.between(startTime, Instant.now());
 
+            // Cancelled by parallel() after another wait failed, which is the failure reported
+            if (WaitManager.isCancellation(e)) {
+                log().debug("Wait cancelled for: {} (after: {}ms)",
+                        condition.describe(argument), waitDuration.toMillis());
+                throw e;
+            }
+
             log().error("Unexpected error during wait for: {} (after: {}ms)",
-                    conditionName, waitDuration.toMillis(), e);
+                    condition.describe(argument), waitDuration.toMillis(), e);
 
             // Record failed wait in metrics
-            metrics.recordFailedWait(conditionName, waitDuration, e.getMessage());
+            metrics.recordFailedWait(condition, labels, waitDuration, e.getMessage());
+            event.complete(condition, labels, effectiveTimeout, WaitEvent.OUTCOME_ERROR);
 
             // Re-throw original exception
             throw e;
+        } finally {
+            span.close();
+        }
+    }
+
+    /**
+     * Describe the element locator for metric labels, without any round-trip to the browser.
+     * PageFactory proxies locate the element on every call, toString() included, so they
+     * are left unlabelled.
+     */
+    private String describeLocator() {
+        if (element == null || Proxy.isProxyClass(element.getClass())) {
+            return null;
+        }
+        if (element instanceof LazyElement) {
+            return ((LazyElement) element).getLocator().toString();
         }
+        return element.toString();
     }
 
     /**
      * Build a comprehensive error message for timeout exceptions
      */
-    private String buildTimeoutErrorMessage(String conditionName, TimeoutException originalException) {
+    private String buildTimeoutErrorMessage(String conditionName, Duration effectiveTimeout) {
         StringBuilder message = new StringBuilder();
 
         // Use custom message if provided, otherwise create default
@@ -266,8 +386,7 @@ public class ElementWaitBuilder implements WaitBuilder<ElementWaitBuilder>, Logg
         }
 
         // Add technical details
-        message.append(" (element: ").append(element.getTagName());
-        message.append(", timeout: ").append(timeout.getSeconds()).append("s");
+        message.append(" (timeout: ").append(effectiveTimeout.toMillis()).append("ms");
         message.append(", polling: ").append(pollingInterval.toMillis()).append("ms)");
 
         return message.toString();
@@ -1,5 +1,7 @@
 package waits.builders;
 
+import events.WaitEvent;
+import logging.Diagnostics;
 import logging.Logging;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -7,9 +9,17 @@ import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.TimeoutException;
+import waits.abort.AbortPolicy;
+import waits.abort.WaitAbortedException;
 import waits.core.WaitBuilder;
+import waits.core.WaitManager;
+import waits.core.WaitTimeoutException;
+import waits.metrics.WaitCondition;
+import waits.metrics.WaitLabels;
 import waits.metrics.WaitMetrics;
 import utils.Constants;
+import tracing.Span;
+import tracing.Tracing;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -40,6 +50,8 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
     private Duration timeout;
     private Duration pollingInterval;
     private String customMessage;
+    private String pageName;
+    private AbortPolicy abortPolicy;
     private Set<Class<? extends Exception>> ignoredExceptions;
 
     // Wait execution state
@@ -61,6 +73,8 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
         this.timeout = Constants.getPageTimeout(); // Page operations typically take longer
         this.pollingInterval = Constants.getPollingInterval();
         this.ignoredExceptions = new HashSet<>();
+        this.pageName = WaitMetrics.UNKNOWN_PAGE;
+        this.abortPolicy = AbortPolicy.none();
 
         log().debug("PageWaitBuilder created for driver: {}", driver.getClass().getSimpleName());
     }
@@ -74,8 +88,6 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
      * @return this builder for potential further chaining
      */
     public PageWaitBuilder toLoad() {
-        String conditionName = "page to load completely";
-
         // Create a custom condition that checks multiple aspects of page loading
         Supplier<ExpectedCondition<Boolean>> pageLoadCondition = () -> new ExpectedCondition<Boolean>() {
             @Override
@@ -92,8 +104,10 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
                 // Page is loaded when document is complete AND jQuery is not active
                 boolean isLoaded = "complete".equals(readyState) && jQueryComplete;
 
-                log().debug("Page load check - readyState: {}, jQueryActive: {}, isLoaded: {}",
-                        readyState, !jQueryComplete, isLoaded);
+                if (log().isDebugEnabled()) {
+                    log().debug("Page load check - readyState: {}, jQueryActive: {}, isLoaded: {}",
+                            readyState, !jQueryComplete, isLoaded);
+                }
 
                 return isLoaded;
             }
@@ -104,7 +118,7 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
             }
         };
 
-        executeWait(pageLoadCondition, conditionName);
+        executeWait(pageLoadCondition, WaitCondition.PAGE_LOAD, null);
         return this;
     }
 
@@ -115,8 +129,6 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
      * @return this builder for potential further chaining
      */
     public PageWaitBuilder forJavaScriptToComplete() {
-        String conditionName = "JavaScript execution to complete";
-
         Supplier<ExpectedCondition<Boolean>> jsCompleteCondition = () -> new ExpectedCondition<Boolean>() {
             @Override
             public Boolean apply(WebDriver driver) {
@@ -133,8 +145,10 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
 
                 boolean allReady = documentReady && jQueryReady && angularReady;
 
-                log().debug("JS completion check - document: {}, jQuery: {}, Angular: {}, allReady: {}",
-                        documentReady, jQueryReady, angularReady, allReady);
+                if (log().isDebugEnabled()) {
+                    log().debug("JS completion check - document: {}, jQuery: {}, Angular: {}, allReady: {}",
+                            documentReady, jQueryReady, angularReady, allReady);
+                }
 
                 return allReady;
             }
@@ -145,7 +159,7 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
             }
         };
 
-        executeWait(jsCompleteCondition, conditionName);
+        executeWait(jsCompleteCondition, WaitCondition.PAGE_JAVASCRIPT_COMPLETE, null);
         return this;
     }
 
@@ -158,8 +172,7 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
      * @return this builder for potential further chaining
      */
     public PageWaitBuilder urlToContain(String urlSubstring) {
-        String conditionName = "URL to contain '" + urlSubstring + "'";
-        executeWait(() -> ExpectedConditions.urlContains(urlSubstring), conditionName);
+        executeWait(() -> ExpectedConditions.urlContains(urlSubstring), WaitCondition.PAGE_URL_CONTAINS, urlSubstring);
         return this;
     }
 
@@ -170,8 +183,7 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
      * @return this builder for potential further chaining
      */
     public PageWaitBuilder urlToBe(String expectedUrl) {
-        String conditionName = "URL to be '" + expectedUrl + "'";
-        executeWait(() -> ExpectedConditions.urlToBe(expectedUrl), conditionName);
+        executeWait(() -> ExpectedConditions.urlToBe(expectedUrl), WaitCondition.PAGE_URL_IS, expectedUrl);
         return this;
     }
 
@@ -182,8 +194,7 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
      * @return this builder for potential further chaining
      */
     public PageWaitBuilder urlToMatch(String urlPattern) {
-        String conditionName = "URL to match pattern '" + urlPattern + "'";
-        executeWait(() -> ExpectedConditions.urlMatches(urlPattern), conditionName);
+        executeWait(() -> ExpectedConditions.urlMatches(urlPattern), WaitCondition.PAGE_URL_MATCHES, urlPattern);
         return this;
     }
 
@@ -196,8 +207,8 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
      * @return this builder for potential further chaining
      */
     public PageWaitBuilder titleToContain(String titleSubstring) {
-        String conditionName = "page title to contain '" + titleSubstring + "'";
-        executeWait(() -> ExpectedConditions.titleContains(titleSubstring), conditionName);
+        executeWait(() -> ExpectedConditions.titleContains(titleSubstring), WaitCondition.PAGE_TITLE_CONTAINS,
+                titleSubstring);
         return this;
     }
 
@@ -208,8 +219,7 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
      * @return this builder for potential further chaining
      */
     public PageWaitBuilder titleToBe(String expectedTitle) {
-        String conditionName = "page title to be '" + expectedTitle + "'";
-        executeWait(() -> ExpectedConditions.titleIs(expectedTitle), conditionName);
+        executeWait(() -> ExpectedConditions.titleIs(expectedTitle), WaitCondition.PAGE_TITLE_IS, expectedTitle);
         return this;
     }
 
@@ -222,8 +232,8 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
      * @return this builder for potential further chaining
      */
     public PageWaitBuilder numberOfWindowsToBe(int expectedWindowCount) {
-        String conditionName = "number of windows to be " + expectedWindowCount;
-        executeWait(() -> ExpectedConditions.numberOfWindowsToBe(expectedWindowCount), conditionName);
+        executeWait(() -> ExpectedConditions.numberOfWindowsToBe(expectedWindowCount), WaitCondition.PAGE_WINDOW_COUNT,
+                String.valueOf(expectedWindowCount));
         return this;
     }
 
@@ -234,9 +244,8 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
      * @return this builder for potential further chaining
      */
     public PageWaitBuilder newWindowToAppear(int currentWindowCount) {
-        String conditionName = "new window to appear";
         int expectedCount = currentWindowCount + 1;
-        executeWait(() -> ExpectedConditions.numberOfWindowsToBe(expectedCount), conditionName);
+        executeWait(() -> ExpectedConditions.numberOfWindowsToBe(expectedCount), WaitCondition.PAGE_NEW_WINDOW, null);
         return this;
     }
 
@@ -248,8 +257,7 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
      * @return this builder for potential further chaining
      */
     public PageWaitBuilder alertToBePresent() {
-        String conditionName = "alert to be present";
-        executeWait(() -> ExpectedConditions.alertIsPresent(), conditionName);
+        executeWait(() -> ExpectedConditions.alertIsPresent(), WaitCondition.PAGE_ALERT, null);
         return this;
     }
 
@@ -263,14 +271,18 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
     @Override
     public PageWaitBuilder withTimeout(Duration duration) {
         this.timeout = duration;
-        log().debug("Page wait timeout configured: {}s", duration.getSeconds());
+        if (log().isDebugEnabled()) {
+            log().debug("Page wait timeout configured: {}s", duration.getSeconds());
+        }
         return this;
     }
 
     @Override
     public PageWaitBuilder withPollingInterval(Duration duration) {
         this.pollingInterval = duration;
-        log().debug("Page wait polling interval configured: {}ms", duration.toMillis());
+        if (log().isDebugEnabled()) {
+            log().debug("Page wait polling interval configured: {}ms", duration.toMillis());
+        }
         return this;
     }
 
@@ -281,6 +293,18 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
         return this;
     }
 
+    @Override
+    public PageWaitBuilder onPage(String pageName) {
+        this.pageName = pageName;
+        return this;
+    }
+
+    @Override
+    public PageWaitBuilder withAbortPolicy(AbortPolicy abortPolicy) {
+        this.abortPolicy = abortPolicy;
+        return this;
+    }
+
     @Override
     @SafeVarargs
     public final PageWaitBuilder ignoring(Class<? extends Exception>... exceptionTypes) {
@@ -296,19 +320,32 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
      * Similar to ElementWaitBuilder.executeWait() but optimized for page operations.
      *
      * @param conditionSupplier Supplier that provides the ExpectedCondition
-     * @param conditionName Human-readable name for logging and metrics
+     * @param condition Condition template used for metrics
+     * @param argument Runtime value of the condition (expected URL, title...), or null
      */
-    private void executeWait(Supplier<? extends ExpectedCondition<?>> conditionSupplier, String conditionName) {
+    private void executeWait(Supplier<? extends ExpectedCondition<?>> conditionSupplier, WaitCondition condition,
+                             String argument) {
+        WaitLabels labels = new WaitLabels(pageName, null, argument);
+
+        // Timeout may be shortened from historical latencies when auto-tuning is enabled
+        Duration effectiveTimeout = metrics.tuneTimeout(condition, labels, timeout);
+
         // Record start time for metrics
         Instant startTime = Instant.now();
+        WaitEvent event = new WaitEvent();
+        event.begin();
+        Span span = Tracing.span("wait", condition.getMetricName()).arg("page", labels.getPageName())
+                .arg("argument", argument);
 
         try {
-            log().debug("Starting page wait for: {} (timeout: {}s, polling: {}ms)",
-                    conditionName, timeout.getSeconds(), pollingInterval.toMillis());
+            if (log().isDebugEnabled()) {
+                log().debug("Starting page wait for: {} (timeout: {}ms, polling: {}ms)",
+                        condition.describe(argument), effectiveTimeout.toMillis(), pollingInterval.toMillis());
+            }
 
             // Create a fresh WebDriverWait with current configuration
             // Page waits often need different configurations than element waits
-            WebDriverWait configuredWait = new WebDriverWait(driver, timeout);
+            WebDriverWait configuredWait = new WebDriverWait(driver, effectiveTimeout);
             configuredWait.pollingEvery(pollingInterval);
 
             // Apply ignored exceptions if any were specified
@@ -317,51 +354,77 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
                 log().debug("Page wait ignoring exceptions: {}", ignoredExceptions);
             }
 
-            // Execute the actual wait
-            configuredWait.until(conditionSupplier.get());
+            // Execute the actual wait, stopping early if an abort condition matches
+            configuredWait.until(abortPolicy.guard(conditionSupplier.get()));
 
             // Calculate duration for metrics
             Duration waitDuration = Duration.between(startTime, Instant.now());
 
-            log().debug("Page wait completed successfully for: {} (took: {}ms)",
-                    conditionName, waitDuration.toMillis());
+            if (log().isDebugEnabled()) {
+                log().debug("Page wait completed successfully for: {} (took: {}ms)",
+                        condition.describe(argument), waitDuration.toMillis());
+            }
 
-            // Record successful wait in metrics with "page-" prefix to distinguish from element waits
-            metrics.recordSuccessfulWait("page-" + conditionName, waitDuration);
+            // Record successful wait in metrics
+            metrics.recordSuccessfulWait(condition, labels, waitDuration);
+            event.complete(condition, labels, effectiveTimeout, WaitEvent.OUTCOME_SUCCESS);
 
         } catch (TimeoutException e) {
             Duration waitDuration = Duration.between(startTime, Instant.now());
 
-            // Create meaningful error message
-            String errorMessage = buildTimeoutErrorMessage(conditionName, e);
+            // Create meaningful error message, the browser context is only fetched when it's read
+            String errorMessage = buildTimeoutErrorMessage(condition.describe(argument), effectiveTimeout);
 
             log().warn("Page wait timed out for: {} (after: {}ms) - {}",
-                    conditionName, waitDuration.toMillis(), errorMessage);
+                    condition.describe(argument), waitDuration.toMillis(), errorMessage);
 
             // Record failed wait in metrics
-            metrics.recordFailedWait("page-" + conditionName, waitDuration, e.getMessage());
+            metrics.recordFailedWait(condition, labels, waitDuration, e.getMessage());
+            event.complete(condition, labels, effectiveTimeout, WaitEvent.OUTCOME_TIMEOUT);
 
             // Re-throw with enhanced message
-            throw new TimeoutException(errorMessage, e);
+            throw new WaitTimeoutException(errorMessage, this::buildTimeoutContext, e);
+
+        } catch (WaitAbortedException e) {
+            Duration waitDuration = Duration.between(startTime, Instant.now());
+
+            log().warn("Page wait aborted for: {} (after: {}ms) - {}",
+                    condition.describe(argument), waitDuration.toMillis(), e.getRawMessage());
+
+            // Record failed wait in metrics
+            metrics.recordFailedWait(condition, labels, waitDuration, e.getRawMessage());
+            event.complete(condition, labels, effectiveTimeout, WaitEvent.OUTCOME_ABORTED);
+
+            throw e;
 
         } catch (Exception e) {
             Duration waitDuration = Duration.between(startTime, Instant.now());
 
+            // Cancelled by parallel() after another wait failed, which is the failure reported
+            if (WaitManager.isCancellation(e)) {
+                log().debug("Page wait cancelled for: {} (after: {}ms)",
+                        condition.describe(argument), waitDuration.toMillis());
+                throw e;
+            }
+
             log().error("Unexpected error during page wait for: {} (after: {}ms)",
-                    conditionName, waitDuration.toMillis(), e);
+                    condition.describe(argument), waitDuration.toMillis(), e);
 
             // Record failed wait in metrics
-            metrics.recordFailedWait("page-" + conditionName, waitDuration, e.getMessage());
+            metrics.recordFailedWait(condition, labels, waitDuration, e.getMessage());
+            event.complete(condition, labels, effectiveTimeout, WaitEvent.OUTCOME_ERROR);
 
             // Re-throw original exception
             throw e;
+        } finally {
+            span.close();
         }
     }
 
     /**
      * Build a comprehensive error message for timeout exceptions in page operations
      */
-    private String buildTimeoutErrorMessage(String conditionName, TimeoutException originalException) {
+    private String buildTimeoutErrorMessage(String conditionName, Duration effectiveTimeout) {
         StringBuilder message = new StringBuilder();
 
         // Use custom message if provided, otherwise create default
@@ -372,11 +435,17 @@ public class PageWaitBuilder implements WaitBuilder<PageWaitBuilder>, Logging {
         }
 
         // Add technical details specific to page operations
-        message.append(" (current URL: ").append(driver.getCurrentUrl());
-        message.append(", page title: '").append(driver.getTitle()).append("'");
-        message.append(", timeout: ").append(timeout.getSeconds()).append("s");
+        message.append(" (timeout: ").append(effectiveTimeout.toMillis()).append("ms");
         message.append(", polling: ").append(pollingInterval.toMillis()).append("ms)");
 
         return message.toString();
     }
-}
\ No newline at end of file
+
+    /**
+     * Browser context of a page timeout, two round-trips, only built when the error message is read
+     */
+    private String buildTimeoutContext() {
+        return "current URL: " + Diagnostics.currentUrl(driver)
+                + ", page title: '" + Diagnostics.pageTitle(driver) + "'";
+    }
+}
@@ -0,0 +1,100 @@
+package waits.cache;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+/**
+ * Element conditions equivalent to the ones in Selenium's ExpectedConditions,
+ * but reading element state through an {@link ElementStateCache}.
+ */
+public final class CachedConditions {
+
+    private CachedConditions() {
+        throw new UnsupportedOperationException("This is a utility class");
+    }
+
+    /**
+     * Same as ExpectedConditions.visibilityOf(element)
+     */
+    public static ExpectedCondition<WebElement> visibilityOf(ElementStateCache cache, WebElement element) {
+        return new ExpectedCondition<WebElement>() {
+            @Override
+            public WebElement apply(WebDriver driver) {
+                return cache.isDisplayed(element) ? element : null;
+            }
+
+            @Override
+            public String toString() {
+                return "visibility of " + element;
+            }
+        };
+    }
+
+    /**
+     * Same as ExpectedConditions.elementToBeClickable(element)
+     */
+    public static ExpectedCondition<WebElement> elementToBeClickable(ElementStateCache cache, WebElement element) {
+        return new ExpectedCondition<WebElement>() {
+            @Override
+            public WebElement apply(WebDriver driver) {
+                try {
+                    return cache.isDisplayed(element) && cache.isEnabled(element) ? element : null;
+                } catch (StaleElementReferenceException e) {
+                    return null;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "element to be clickable: " + element;
+            }
+        };
+    }
+
+    /**
+     * Same as ExpectedConditions.invisibilityOf(element)
+     */
+    public static ExpectedCondition<Boolean> invisibilityOf(ElementStateCache cache, WebElement element) {
+        return new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                try {
+                    return !cache.isDisplayed(element);
+                } catch (StaleElementReferenceException | NoSuchElementException e) {
+                    // Elements that are gone are invisible too
+                    return true;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "invisibility of " + element;
+            }
+        };
+    }
+
+    /**
+     * Same as ExpectedConditions.textToBePresentInElement(element, text)
+     */
+    public static ExpectedCondition<Boolean> textToBePresentInElement(ElementStateCache cache, WebElement element,
+                                                                      String text) {
+        return new ExpectedCondition<Boolean>() {
+            @Override
+            public Boolean apply(WebDriver driver) {
+                try {
+                    return cache.getText(element).contains(text);
+                } catch (StaleElementReferenceException e) {
+                    return null;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return String.format("text ('%s') to be present in element %s", text, element);
+            }
+        };
+    }
+}
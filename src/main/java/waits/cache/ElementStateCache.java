@@ -0,0 +1,262 @@
+package waits.cache;
+
+import logging.Logging;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import utils.Constants;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived, per-driver cache of element state (displayed, enabled, text and rect).
+ * <p>
+ * Repeated reads of the same element within one logical step - e.g. waiting for
+ * visibility and then for clickability, or waiting for visibility and then reading
+ * the text - are answered from the cache instead of issuing another wire command.
+ * <p>
+ * Entries live for a short "tick" (see {@code wait.state.cache.ttl}), kept below the
+ * polling interval so every poll of a wait still observes fresh state. Any mutating
+ * command (click, sendKeys, navigation, script execution...) invalidates the whole
+ * cache; see {@link StateInvalidatingListener}.
+ * <p>
+ * This class is thread-safe.
+ */
+public class ElementStateCache implements Logging {
+
+    // Registry of caches per decorated driver
+    private static final Map<WebDriver, ElementStateCache> caches = new ConcurrentHashMap<>();
+
+    // Caches get cleared when they grow beyond this size, a safety net for pages with many elements
+    private static final int MAX_ENTRIES = 512;
+
+    private final long ttlNanos;
+    private final Map<ElementKey, CachedState> states = new ConcurrentHashMap<>();
+
+    // Incremented on every mutating command - entries from an older epoch are never used
+    private final AtomicLong epoch = new AtomicLong();
+
+    // Incremented on navigation and window/frame switches - element handles found before aren't reused
+    private final AtomicLong navigationEpoch = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Create a cache with the configured time-to-live
+     */
+    public ElementStateCache() {
+        this(Constants.getElementStateCacheTtl());
+    }
+
+    /**
+     * Create a cache with a custom time-to-live
+     *
+     * @param ttl How long a cached value may be reused, Duration.ZERO disables caching
+     */
+    public ElementStateCache(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Associate a cache with a driver whose mutating commands invalidate it
+     *
+     * @param driver Driver (decorated with a StateInvalidatingListener) the cache belongs to
+     * @param cache Cache to register
+     */
+    public static void register(WebDriver driver, ElementStateCache cache) {
+        caches.put(driver, cache);
+    }
+
+    /**
+     * Remove the cache associated with a driver, typically when the driver is quit
+     *
+     * @param driver Driver being quit
+     */
+    public static void unregister(WebDriver driver) {
+        caches.remove(driver);
+    }
+
+    /**
+     * Get the cache of a driver.
+     * Drivers without a registered cache get a pass-through instance, since nothing
+     * would invalidate their entries after a mutating command.
+     *
+     * @param driver Driver to get the cache for
+     * @return registered cache, or a disabled one
+     */
+    public static ElementStateCache forDriver(WebDriver driver) {
+        ElementStateCache cache = caches.get(driver);
+        return cache != null ? cache : new ElementStateCache(Duration.ZERO);
+    }
+
+    /**
+     * Get the cache registered for a driver
+     *
+     * @param driver Driver to get the cache for
+     * @return registered cache, or null if the driver has none
+     */
+    public static ElementStateCache lookup(WebDriver driver) {
+        return caches.get(driver);
+    }
+
+    public boolean isDisplayed(WebElement element) {
+        return read(element, StateField.DISPLAYED, element::isDisplayed);
+    }
+
+    public boolean isEnabled(WebElement element) {
+        return read(element, StateField.ENABLED, element::isEnabled);
+    }
+
+    public String getText(WebElement element) {
+        return read(element, StateField.TEXT, element::getText);
+    }
+
+    public Rectangle getRect(WebElement element) {
+        return read(element, StateField.RECT, element::getRect);
+    }
+
+    /**
+     * Drop all cached state. Called after every mutating command.
+     */
+    public void invalidate() {
+        epoch.incrementAndGet();
+        states.clear();
+    }
+
+    /**
+     * Drop all cached state and mark the element handles found so far as outdated.
+     * Called after navigation and window/frame switches.
+     */
+    public void invalidateHandles() {
+        navigationEpoch.incrementAndGet();
+        invalidate();
+    }
+
+    /**
+     * Number of mutating commands so far, unchanged as long as nothing changed the page
+     */
+    public long getEpoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Number of navigations and window/frame switches so far
+     */
+    public long getNavigationEpoch() {
+        return navigationEpoch.get();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public boolean isCachingEnabled() {
+        return ttlNanos > 0;
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    /**
+     * Read a state field from the cache, querying the element on a miss.
+     * Exceptions from the query (stale element, no such element...) are never cached.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T read(WebElement element, StateField field, Supplier<T> query) {
+        if (ttlNanos <= 0) {
+            return query.get();
+        }
+
+        long currentEpoch = epoch.get();
+        long now = System.nanoTime();
+        ElementKey key = new ElementKey(element);
+
+        CachedState state = states.get(key);
+        if (state != null && state.isValid(currentEpoch, now, ttlNanos)) {
+            Object cached = state.get(field);
+            if (cached != null) {
+                hits.increment();
+                return (T) cached;
+            }
+        }
+
+        misses.increment();
+        T value = query.get();
+
+        // A mutating command may have run while we were querying - don't cache what may be outdated
+        if (epoch.get() == currentEpoch) {
+            if (state == null || !state.isValid(currentEpoch, now, ttlNanos)) {
+                if (states.size() >= MAX_ENTRIES) {
+                    states.clear();
+                }
+                state = new CachedState(currentEpoch, now);
+                states.put(key, state);
+            }
+            state.set(field, value);
+        }
+
+        return value;
+    }
+
+    private enum StateField {
+        DISPLAYED, ENABLED, TEXT, RECT
+    }
+
+    /**
+     * State values read for one element during one tick
+     */
+    private static class CachedState {
+        private final long epoch;
+        private final long createdAtNanos;
+        private final AtomicReferenceArray<Object> values = new AtomicReferenceArray<>(StateField.values().length);
+
+        CachedState(long epoch, long createdAtNanos) {
+            this.epoch = epoch;
+            this.createdAtNanos = createdAtNanos;
+        }
+
+        boolean isValid(long currentEpoch, long now, long ttlNanos) {
+            return epoch == currentEpoch && now - createdAtNanos < ttlNanos;
+        }
+
+        Object get(StateField field) {
+            return values.get(field.ordinal());
+        }
+
+        void set(StateField field, Object value) {
+            values.set(field.ordinal(), value);
+        }
+    }
+
+    /**
+     * Identity-based key. PageFactory proxies forward equals()/hashCode() to the
+     * located element, which would cost a findElement round-trip on every lookup.
+     */
+    private static final class ElementKey {
+        private final WebElement element;
+
+        ElementKey(WebElement element) {
+            this.element = element;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ElementKey && ((ElementKey) other).element == element;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(element);
+        }
+    }
+}
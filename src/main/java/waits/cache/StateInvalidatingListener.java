@@ -0,0 +1,98 @@
+package waits.cache;
+
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.Sequence;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+
+/**
+ * WebDriver listener that invalidates an {@link ElementStateCache} after every
+ * command that may change the page: element interactions, navigation, script
+ * execution, actions, alerts and window/frame switches. Navigation and window/frame switches
+ * also outdate the element handles cached by page objects.
+ * <p>
+ * Register it through an EventFiringDecorator when the driver is created.
+ */
+public class StateInvalidatingListener implements WebDriverListener {
+
+    private final ElementStateCache cache;
+
+    public StateInvalidatingListener(ElementStateCache cache) {
+        this.cache = cache;
+    }
+
+    // ========== ELEMENT INTERACTIONS ==========
+
+    @Override
+    public void afterClick(WebElement element) {
+        cache.invalidate();
+    }
+
+    @Override
+    public void afterSubmit(WebElement element) {
+        cache.invalidate();
+    }
+
+    @Override
+    public void afterSendKeys(WebElement element, CharSequence... keysToSend) {
+        cache.invalidate();
+    }
+
+    @Override
+    public void afterClear(WebElement element) {
+        cache.invalidate();
+    }
+
+    // ========== NAVIGATION AND SCRIPTS ==========
+
+    @Override
+    public void afterGet(WebDriver driver, String url) {
+        cache.invalidateHandles();
+    }
+
+    @Override
+    public void afterAnyNavigationCall(WebDriver.Navigation navigation, Method method, Object[] args, Object result) {
+        cache.invalidateHandles();
+    }
+
+    @Override
+    public void afterExecuteScript(WebDriver driver, String script, Object[] args, Object result) {
+        cache.invalidate();
+    }
+
+    @Override
+    public void afterExecuteAsyncScript(WebDriver driver, String script, Object[] args, Object result) {
+        cache.invalidate();
+    }
+
+    @Override
+    public void afterPerform(WebDriver driver, Collection<Sequence> actions) {
+        cache.invalidate();
+    }
+
+    @Override
+    public void afterResetInputState(WebDriver driver) {
+        cache.invalidate();
+    }
+
+    // ========== ALERTS, WINDOWS AND FRAMES ==========
+
+    @Override
+    public void afterAnyAlertCall(Alert alert, Method method, Object[] args, Object result) {
+        cache.invalidate();
+    }
+
+    @Override
+    public void afterAnyTargetLocatorCall(WebDriver.TargetLocator targetLocator, Method method, Object[] args, Object result) {
+        cache.invalidateHandles();
+    }
+
+    @Override
+    public void afterAnyWindowCall(WebDriver.Window window, Method method, Object[] args, Object result) {
+        cache.invalidate();
+    }
+}
@@ -0,0 +1,104 @@
+package waits.conditions;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import waits.core.DriverPlatform;
+
+/**
+ * Conditions that are met as soon as an element stops moving,
+ * e.g. after a smooth scroll or an entry animation.
+ * <p>
+ * In browsers the element's bounding rect is sampled on consecutive animation frames
+ * inside a single async script. On mobile, UiAutomator2 waits for the UI to be idle
+ * before every command, so two consecutive rect reads that match mean the screen settled.
+ */
+public final class SettleConditions {
+
+    // Consecutive animation frames with an unchanged rect needed to consider the element settled
+    private static final int STABLE_FRAMES = 3;
+
+    // Frames sampled per poll before giving up and letting the wait poll again (~1s at 60fps)
+    private static final int MAX_FRAMES_PER_POLL = 60;
+
+    private static final String SETTLE_SCRIPT =
+            "var el = arguments[0], needInView = arguments[1], stableFrames = arguments[2], maxFrames = arguments[3];" +
+            "var done = arguments[arguments.length - 1], finished = false;" +
+            "function finish(result) { if (!finished) { finished = true; done(result); } }" +
+            // rAF doesn't run in hidden tabs - don't let the script hang until the script timeout
+            "setTimeout(function() { finish(false); }, maxFrames * 20);" +
+            "var last = null, stable = 0, frames = 0;" +
+            "function step() {" +
+            "  if (!el.isConnected) { finish(false); return; }" +
+            "  var r = el.getBoundingClientRect();" +
+            "  var same = last !== null && r.top === last.top && r.left === last.left" +
+            "      && r.width === last.width && r.height === last.height;" +
+            "  stable = same ? stable + 1 : 0;" +
+            "  last = r;" +
+            "  if (stable >= stableFrames) {" +
+            "    var inView = r.bottom > 0 && r.right > 0 && r.top < window.innerHeight && r.left < window.innerWidth;" +
+            "    finish(!needInView || inView);" +
+            "    return;" +
+            "  }" +
+            "  if (++frames >= maxFrames) { finish(false); return; }" +
+            "  window.requestAnimationFrame(step);" +
+            "}" +
+            "window.requestAnimationFrame(step);";
+
+    private SettleConditions() {
+        throw new UnsupportedOperationException("This is a utility class");
+    }
+
+    /**
+     * Element stopped moving and is inside the viewport
+     *
+     * @param element WebElement that was scrolled to
+     * @return condition returning the element once it is settled in view
+     */
+    public static ExpectedCondition<WebElement> scrolledIntoView(WebElement element) {
+        return settle(element, true);
+    }
+
+    /**
+     * Element stopped moving, wherever it is
+     *
+     * @param element WebElement to watch
+     * @return condition returning the element once its position and size are stable
+     */
+    public static ExpectedCondition<WebElement> settled(WebElement element) {
+        return settle(element, false);
+    }
+
+    private static ExpectedCondition<WebElement> settle(WebElement element, boolean requireInView) {
+        return new ExpectedCondition<WebElement>() {
+            @Override
+            public WebElement apply(WebDriver driver) {
+                boolean settled = DriverPlatform.isMobile(driver) || !(driver instanceof JavascriptExecutor)
+                        ? isSettledAfterIdle(element, requireInView)
+                        : isSettledInBrowser((JavascriptExecutor) driver, element, requireInView);
+
+                return settled ? element : null;
+            }
+
+            @Override
+            public String toString() {
+                return (requireInView ? "element to be scrolled into view: " : "element to settle: ") + element;
+            }
+        };
+    }
+
+    private static boolean isSettledInBrowser(JavascriptExecutor js, WebElement element, boolean requireInView) {
+        Object result = js.executeAsyncScript(SETTLE_SCRIPT, element, requireInView, STABLE_FRAMES, MAX_FRAMES_PER_POLL);
+        return Boolean.TRUE.equals(result);
+    }
+
+    private static boolean isSettledAfterIdle(WebElement element, boolean requireInView) {
+        // Each command runs once UiAutomator2 reports the UI idle, so equal rects mean no more motion
+        Rectangle first = element.getRect();
+        Rectangle second = element.getRect();
+
+        return first.equals(second) && (!requireInView || element.isDisplayed());
+    }
+}
@@ -0,0 +1,33 @@
+package waits.core;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Helpers to tell apart browser sessions from native mobile sessions.
+ * Capabilities are kept locally by the driver, so these checks don't cost a round-trip.
+ */
+public final class DriverPlatform {
+
+    private DriverPlatform() {
+        throw new UnsupportedOperationException("This is a utility class");
+    }
+
+    /**
+     * Check if the driver runs a native mobile session (Android or iOS)
+     *
+     * @param driver WebDriver instance to check
+     * @return true for mobile sessions, false for browsers
+     */
+    public static boolean isMobile(WebDriver driver) {
+        if (!(driver instanceof HasCapabilities)) {
+            return false;
+        }
+
+        Capabilities capabilities = ((HasCapabilities) driver).getCapabilities();
+        Platform platform = capabilities.getPlatformName();
+        return platform != null && (platform.is(Platform.ANDROID) || platform.is(Platform.IOS));
+    }
+}
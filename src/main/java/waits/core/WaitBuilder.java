@@ -1,5 +1,7 @@
 package waits.core;
 
+import waits.abort.AbortPolicy;
+
 import java.time.Duration;
 
 /**
@@ -36,6 +38,21 @@ public interface WaitBuilder<T> {
      */
     T withMessage(String message);
 
+    /**
+     * Tag the wait with the page it belongs to.
+     * Used to group metrics and latency history per page.
+     * @param pageName page name, typically the page object class name
+     * @return builder instance for method chaining
+     */
+    T onPage(String pageName);
+
+    /**
+     * Set the abort conditions evaluated while waiting
+     * @param abortPolicy policy that stops the wait early, e.g. on error pages
+     * @return builder instance for method chaining
+     */
+    T withAbortPolicy(AbortPolicy abortPolicy);
+
     /**
      * Add exception types to ignore during waiting
      * @param exceptionTypes exception classes to ignore
@@ -1,17 +1,36 @@
 package waits.core;
 
+import logging.Diagnostics;
 import logging.Logging;
+import org.apache.logging.log4j.ThreadContext;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.FluentWait;
 import utils.Constants;
+import waits.abort.AbortPolicy;
 import waits.builders.ElementWaitBuilder;
 import waits.builders.PageWaitBuilder;
+import waits.cache.ElementStateCache;
+import waits.metrics.MetricsRegistry;
+import waits.metrics.WaitHistory;
 import waits.metrics.WaitMetrics;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Central manager for all wait operations.
@@ -23,8 +42,17 @@ public class WaitManager implements Logging {
     // Thread-safe cache of WaitManager instances per WebDriver
     private static final ConcurrentHashMap<WebDriver, WaitManager> instances = new ConcurrentHashMap<>();
 
+    // Held while a session moves from the live instances to the registry, so snapshots count it once
+    private static final Object PUBLISH_LOCK = new Object();
+
+    // Shared executor for parallel waits - one short-lived thread per wait, virtual when the JVM supports it
+    private static final ExecutorService parallelExecutor = new ThreadPoolExecutor(
+            0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), createWaitThreadFactory());
+
     private final WebDriver driver;
     private final WaitMetrics metrics;
+    private final ElementStateCache stateCache;
+    private final AbortPolicy abortPolicy;
 
     /**
      * Private constructor - use getInstance() instead
@@ -32,6 +60,8 @@ public class WaitManager implements Logging {
     private WaitManager(WebDriver driver) {
         this.driver = driver;
         this.metrics = new WaitMetrics();
+        this.stateCache = ElementStateCache.forDriver(driver);
+        this.abortPolicy = AbortPolicy.fromConfiguration();
         log().debug("WaitManager initialized for driver: {}", driver.getClass().getSimpleName());
     }
 
@@ -52,14 +82,46 @@ public class WaitManager implements Logging {
 
     /**
      * Remove WaitManager instance when driver is quit.
-     * Should be called in cleanup methods.
+     * Its metrics are published to the suite-wide MetricsRegistry before it is released.
+     * Called by DriverManager.quitDriver().
      *
      * @param driver WebDriver instance being quit
      */
     public static void removeInstance(WebDriver driver) {
-        WaitManager removed = instances.remove(driver);
-        if (removed != null) {
-            removed.log().debug("WaitManager instance removed for driver");
+        synchronized (PUBLISH_LOCK) {
+            WaitManager removed = instances.remove(driver);
+            if (removed != null) {
+                MetricsRegistry.getInstance().publish(removed.metrics);
+                removed.log().debug("WaitManager instance removed for driver");
+            }
+        }
+    }
+
+    /**
+     * Snapshot of the suite metrics so far: the published sessions and the ones still running.
+     * Publishing a session only moves its counts from one part to the other, so counters read
+     * from successive snapshots never decrease. Detailed wait records are not copied.
+     *
+     * @return new WaitMetrics, independent of the live ones
+     */
+    public static WaitMetrics snapshotSuiteMetrics() {
+        WaitMetrics snapshot = new WaitMetrics(1, false, WaitHistory.inMemory());
+        synchronized (PUBLISH_LOCK) {
+            snapshot.mergeFrom(MetricsRegistry.getInstance().getSuiteMetrics());
+            for (WaitManager manager : instances.values()) {
+                snapshot.mergeFrom(manager.metrics);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Remove all WaitManager instances, publishing their metrics.
+     * Used at the end of a suite for sessions whose driver was never quit.
+     */
+    public static void removeAllInstances() {
+        for (WebDriver driver : instances.keySet()) {
+            removeInstance(driver);
         }
     }
 
@@ -74,14 +136,15 @@ public class WaitManager implements Logging {
             throw new IllegalArgumentException("WebElement cannot be null");
         }
 
-        log().debug("Creating ElementWaitBuilder for element: {}", element.getTagName());
+        log().debug("Creating ElementWaitBuilder for element: {}", Diagnostics.tagName(element));
 
         return new ElementWaitBuilder(
                 driver,
                 element,
                 createWebDriverWait(Constants.getElementTimeout()),
-                metrics
-        );
+                metrics,
+                stateCache
+        ).withAbortPolicy(abortPolicy);
     }
 
     /**
@@ -96,7 +159,62 @@ public class WaitManager implements Logging {
                 driver,
                 createWebDriverWait(Constants.getPageTimeout()),
                 metrics
-        );
+        ).withAbortPolicy(abortPolicy);
+    }
+
+    /**
+     * Run independent waits concurrently and wait for all of them to finish.
+     * <p>
+     * Total time approaches the slowest single wait instead of the sum of all of them.
+     * As soon as one wait fails, the remaining ones are cancelled and the failure is re-thrown.
+     * Cancelled waits are not recorded in the metrics, so only the real failure is reported.
+     * Drivers that don't handle concurrent commands well (mobile sessions) or a disabled
+     * {@code wait.parallel.enabled} property make the waits run sequentially instead.
+     * <p>
+     * Usage example:
+     * parallel(() -> waitFor(logo).toBeVisible(), () -> waitFor(searchField).toBeVisible());
+     *
+     * @param waits independent wait plans to execute
+     */
+    public void parallel(Runnable... waits) {
+        if (waits.length <= 1 || !supportsConcurrentWaits()) {
+            log().debug("Running {} waits sequentially", waits.length);
+            for (Runnable waitPlan : waits) {
+                waitPlan.run();
+            }
+            return;
+        }
+
+        log().debug("Running {} waits in parallel", waits.length);
+
+        ExecutorCompletionService<Void> completionService = new ExecutorCompletionService<>(parallelExecutor);
+        List<Future<Void>> futures = new ArrayList<>(waits.length);
+        // Wait threads log on behalf of the calling test, e.g. into its log buffer and diagnostics budget
+        Map<String, String> logContext = ThreadContext.getImmutableContext();
+        for (Runnable waitPlan : waits) {
+            futures.add(completionService.submit(Diagnostics.propagate(withLogContext(waitPlan, logContext)), null));
+        }
+
+        try {
+            for (int i = 0; i < waits.length; i++) {
+                // Futures complete in finishing order, so the first failure is seen as soon as it happens
+                completionService.take().get();
+            }
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new WebDriverException("Parallel wait failed", cause);
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while running parallel waits", e);
+        }
     }
 
     /**
@@ -109,8 +227,10 @@ public class WaitManager implements Logging {
         WebDriverWait wait = new WebDriverWait(driver, timeout);
         wait.pollingEvery(Constants.getPollingInterval());
 
-        log().debug("Created WebDriverWait - timeout: {}s, polling: {}ms",
-                timeout.getSeconds(), Constants.getPollingInterval().toMillis());
+        if (log().isDebugEnabled()) {
+            log().debug("Created WebDriverWait - timeout: {}s, polling: {}ms",
+                    timeout.getSeconds(), Constants.getPollingInterval().toMillis());
+        }
 
         return wait;
     }
@@ -127,8 +247,10 @@ public class WaitManager implements Logging {
                 .withTimeout(timeout)
                 .pollingEvery(pollingInterval);
 
-        log().debug("Created FluentWait - timeout: {}s, polling: {}ms",
-                timeout.getSeconds(), pollingInterval.toMillis());
+        if (log().isDebugEnabled()) {
+            log().debug("Created FluentWait - timeout: {}s, polling: {}ms",
+                    timeout.getSeconds(), pollingInterval.toMillis());
+        }
 
         return wait;
     }
@@ -142,6 +264,26 @@ public class WaitManager implements Logging {
         return metrics;
     }
 
+    /**
+     * Get the abort conditions applied to every wait created by this manager.
+     * Additional conditions can be plugged in with {@link AbortPolicy#add}.
+     *
+     * @return AbortPolicy instance
+     */
+    public AbortPolicy getAbortPolicy() {
+        return abortPolicy;
+    }
+
+    /**
+     * Get the element state cache of this driver.
+     * Page objects read element state through it to reuse values the waits already fetched.
+     *
+     * @return ElementStateCache instance
+     */
+    public ElementStateCache getElementState() {
+        return stateCache;
+    }
+
     /**
      * Get the WebDriver instance associated with this WaitManager
      *
@@ -151,6 +293,35 @@ public class WaitManager implements Logging {
         return driver;
     }
 
+    /**
+     * Check whether waits can be sent concurrently to this driver.
+     * Mobile sessions execute commands one at a time, so parallel waits only add overhead there.
+     *
+     * @return true if parallel waits are enabled and the driver handles concurrent commands
+     */
+    public boolean supportsConcurrentWaits() {
+        return Constants.isParallelWaitsEnabled() && !DriverPlatform.isMobile(driver);
+    }
+
+    /**
+     * Check whether a wait failed because parallel() cancelled it, by interrupting its thread,
+     * after another wait failed. FluentWait reports the interrupt as a WebDriverException.
+     *
+     * @param failure Exception thrown by the wait
+     * @return true if the wait was cancelled rather than failed on its own
+     */
+    public static boolean isCancellation(Throwable failure) {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof InterruptedException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Clear all metrics data
      */
@@ -158,4 +329,47 @@ public class WaitManager implements Logging {
         metrics.clear();
         log().debug("Wait metrics cleared");
     }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static void cancelAll(List<Future<Void>> futures) {
+        for (Future<Void> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Run a wait plan with the ThreadContext of the thread that submitted it
+     */
+    private static Runnable withLogContext(Runnable waitPlan, Map<String, String> logContext) {
+        return () -> {
+            ThreadContext.putAll(logContext);
+            try {
+                waitPlan.run();
+            } finally {
+                ThreadContext.clearMap();
+            }
+        };
+    }
+
+    /**
+     * Create the thread factory used for parallel waits.
+     * Virtual threads are used when the running JVM provides them (Java 21+),
+     * otherwise daemon platform threads are created.
+     */
+    private static ThreadFactory createWaitThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "parallel-wait-", 0L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            AtomicLong counter = new AtomicLong();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "parallel-wait-" + counter.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package waits.core;
+
+import org.openqa.selenium.TimeoutException;
+
+import java.util.function.Supplier;
+
+/**
+ * Thrown when a wait times out. The browser context added to the message (current URL, page
+ * title, element tag) costs WebDriver round-trips, so it is only fetched when the message is
+ * first read, and never when a caller just catches the timeout and moves on.
+ */
+public class WaitTimeoutException extends TimeoutException {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Supplier<String> context;
+    private String contextValue;
+
+    /**
+     * @param message Description of the wait that timed out
+     * @param context Browser context appended to the message, fetched on first use
+     * @param cause Original timeout of the WebDriverWait
+     */
+    public WaitTimeoutException(String message, Supplier<String> context, Throwable cause) {
+        super(message, cause);
+        this.context = context;
+    }
+
+    @Override
+    public String getMessage() {
+        return super.getMessage() + " - " + getContext();
+    }
+
+    @Override
+    public String getRawMessage() {
+        return super.getRawMessage() + " - " + getContext();
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private synchronized String getContext() {
+        if (context != null) {
+            contextValue = context.get();
+            context = null;
+        }
+        return contextValue;
+    }
+}
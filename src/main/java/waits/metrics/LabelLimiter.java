@@ -0,0 +1,70 @@
+package waits.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of distinct values a metric label can take.
+ * <p>
+ * The first {@code maxLabels} values are accepted as they are; any new value after that
+ * is replaced by {@link #OVERFLOW_LABEL}, so maps keyed by the label cannot grow without
+ * bound. Known values are accepted with a single lock-free lookup.
+ * <p>
+ * This class is thread-safe.
+ */
+public class LabelLimiter {
+
+    // Label reported for every value beyond the limit
+    public static final String OVERFLOW_LABEL = "other";
+
+    private final int maxLabels;
+    private final Set<String> labels = ConcurrentHashMap.newKeySet();
+    private final LongAdder overflowCount = new LongAdder();
+
+    /**
+     * Create a limiter
+     *
+     * @param maxLabels Maximum number of distinct values kept
+     */
+    public LabelLimiter(int maxLabels) {
+        this.maxLabels = maxLabels;
+    }
+
+    /**
+     * Get the label to use for a value
+     *
+     * @param label Value of the label
+     * @return the value itself, or OVERFLOW_LABEL once the limit is reached
+     */
+    public String limit(String label) {
+        if (labels.contains(label)) {
+            return label;
+        }
+
+        synchronized (labels) {
+            if (labels.contains(label) || labels.size() < maxLabels && labels.add(label)) {
+                return label;
+            }
+        }
+
+        overflowCount.increment();
+        return OVERFLOW_LABEL;
+    }
+
+    /**
+     * Number of values replaced by OVERFLOW_LABEL since creation
+     */
+    public long getOverflowCount() {
+        return overflowCount.sum();
+    }
+
+    /**
+     * Forget all accepted values
+     */
+    public void clear() {
+        synchronized (labels) {
+            labels.clear();
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package waits.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-memory, lock-free latency histogram with log-linear buckets (HDR-style).
+ * <p>
+ * Values are recorded in microseconds. Every power of two is split into 32 linear
+ * sub-buckets, so any recorded value is reported with at most ~3% relative error,
+ * from 1µs up to ~12 days, using a constant ~9KB per histogram.
+ * <p>
+ * Recording only uses atomic increments, so it is safe and cheap to call from many
+ * threads. Percentiles read a point-in-time copy of the buckets. Histograms from
+ * different threads or drivers can be combined with {@link #mergeFrom(LatencyHistogram)}.
+ */
+public class LatencyHistogram {
+
+    // 2^5 = 32 linear sub-buckets per power of two
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    // Values above 2^40 µs (~12.7 days) are clamped into the last bucket
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_TRACKABLE_MICROS = (1L << MAX_EXPONENT) - 1;
+
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Record a latency
+     *
+     * @param duration latency to record, negative values count as zero
+     */
+    public void record(Duration duration) {
+        recordMicros(duration.toNanos() / 1_000);
+    }
+
+    /**
+     * Record a latency in microseconds
+     *
+     * @param micros latency to record, negative values count as zero
+     */
+    public void recordMicros(long micros) {
+        long value = Math.max(0, Math.min(micros, MAX_TRACKABLE_MICROS));
+
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Add all values recorded by another histogram to this one
+     *
+     * @param other histogram to merge, left unchanged
+     */
+    public void mergeFrom(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count > 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalMicros.addAndGet(other.totalMicros.get());
+        maxMicros.accumulateAndGet(other.maxMicros.get(), Math::max);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public Duration getMax() {
+        return Duration.ofNanos(maxMicros.get() * 1_000);
+    }
+
+    public Duration getMean() {
+        long count = totalCount.get();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalMicros.get() / count * 1_000);
+    }
+
+    public Duration getTotal() {
+        return Duration.ofNanos(totalMicros.get() * 1_000);
+    }
+
+    public Duration getP50() {
+        return getValueAtPercentile(50.0);
+    }
+
+    public Duration getP90() {
+        return getValueAtPercentile(90.0);
+    }
+
+    public Duration getP99() {
+        return getValueAtPercentile(99.0);
+    }
+
+    public Duration getP999() {
+        return getValueAtPercentile(99.9);
+    }
+
+    /**
+     * Get the value below which the given percentage of recorded values fall
+     *
+     * @param percentile Percentile between 0.0 and 100.0
+     * @return latency at that percentile, or Duration.ZERO if nothing was recorded
+     */
+    public Duration getValueAtPercentile(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * total));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += snapshot[i];
+            if (cumulative >= target) {
+                long value = Math.min(bucketUpperBoundMicros(i), maxMicros.get());
+                return Duration.ofNanos(value * 1_000);
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Number of buckets, for exporters that need the raw distribution
+     */
+    public int getBucketCount() {
+        return BUCKET_COUNT;
+    }
+
+    /**
+     * Number of values recorded in a bucket
+     *
+     * @param bucket bucket index between 0 and getBucketCount() - 1
+     */
+    public long getCountAtBucket(int bucket) {
+        return counts.get(bucket);
+    }
+
+    /**
+     * Highest value (inclusive) that falls into a bucket, in microseconds
+     *
+     * @param bucket bucket index between 0 and getBucketCount() - 1
+     */
+    public static long bucketUpperBoundMicros(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+
+        int shift = (bucket - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        int subBucket = (bucket - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+
+    /**
+     * Encode the recorded values as a single line of text, e.g. for baselines kept across runs.
+     * Only non-empty buckets are written: "count;totalMicros;maxMicros;bucket:count,bucket:count"
+     */
+    public String encode() {
+        StringBuilder encoded = new StringBuilder()
+                .append(totalCount.get()).append(';').append(totalMicros.get()).append(';').append(maxMicros.get())
+                .append(';');
+        boolean first = true;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = counts.get(i);
+            if (count > 0) {
+                if (!first) {
+                    encoded.append(',');
+                }
+                encoded.append(i).append(':').append(count);
+                first = false;
+            }
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Rebuild a histogram from {@link #encode()}
+     *
+     * @param encoded Encoded histogram
+     * @return decoded histogram
+     * @throws IllegalArgumentException if the text is not a valid encoded histogram
+     */
+    public static LatencyHistogram decode(String encoded) {
+        String[] fields = encoded.split(";", -1);
+        if (fields.length != 4) {
+            throw new IllegalArgumentException("Invalid encoded histogram: " + encoded);
+        }
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        try {
+            histogram.totalCount.set(Long.parseLong(fields[0]));
+            histogram.totalMicros.set(Long.parseLong(fields[1]));
+            histogram.maxMicros.set(Long.parseLong(fields[2]));
+            if (!fields[3].isEmpty()) {
+                for (String bucket : fields[3].split(",")) {
+                    int separator = bucket.indexOf(':');
+                    histogram.counts.set(Integer.parseInt(bucket.substring(0, separator)),
+                            Long.parseLong(bucket.substring(separator + 1)));
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid encoded histogram: " + encoded, e);
+        }
+        return histogram;
+    }
+
+    /**
+     * Remove all recorded values
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalMicros.set(0);
+        maxMicros.set(0);
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+}
@@ -0,0 +1,62 @@
+package waits.metrics;
+
+import logging.Logging;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Suite-wide registry aggregating the wait metrics of every driver session.
+ * <p>
+ * Each WaitManager collects metrics for its own driver; when the driver is quit
+ * they are published here and merged into a single {@link WaitMetrics}, so the
+ * suite summary covers all sessions, including the ones run in parallel.
+ * <p>
+ * This class is thread-safe. Use {@link #getInstance()} to access the registry.
+ */
+public final class MetricsRegistry implements Logging {
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+
+    private final WaitMetrics suiteMetrics = new WaitMetrics();
+    private final AtomicInteger publishedSessions = new AtomicInteger();
+
+    private MetricsRegistry() {
+    }
+
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Merge the metrics of a finished session into the suite metrics
+     *
+     * @param sessionMetrics metrics collected for one driver session
+     */
+    public void publish(WaitMetrics sessionMetrics) {
+        suiteMetrics.mergeFrom(sessionMetrics);
+        int sessions = publishedSessions.incrementAndGet();
+
+        log().debug("Published wait metrics of session #{} to the suite registry", sessions);
+    }
+
+    /**
+     * Get the metrics aggregated from all published sessions
+     *
+     * @return WaitMetrics for the whole suite
+     */
+    public WaitMetrics getSuiteMetrics() {
+        return suiteMetrics;
+    }
+
+    public int getPublishedSessions() {
+        return publishedSessions.get();
+    }
+
+    /**
+     * Forget all published metrics, e.g. when a new suite starts
+     */
+    public void reset() {
+        suiteMetrics.clear();
+        publishedSessions.set(0);
+    }
+}
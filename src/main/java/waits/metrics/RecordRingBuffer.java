@@ -0,0 +1,100 @@
+package waits.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-capacity, lock-free, multi-producer ring buffer keeping the most recent values.
+ * <p>
+ * Writers claim a sequence number with a single atomic increment and publish their value
+ * in the matching slot, overwriting the oldest one - no locks and no array shifting.
+ * Readers take snapshots without blocking writers: every slot carries the sequence it was
+ * written for, so slots that are being overwritten or not published yet are skipped.
+ *
+ * @param <T> type of the stored values
+ */
+public class RecordRingBuffer<T> {
+
+    private final int capacity;
+    private final AtomicReferenceArray<Slot<T>> slots;
+
+    // Next sequence number to claim - also the total number of values ever added
+    private final AtomicLong nextSequence = new AtomicLong();
+
+    /**
+     * Create a ring buffer
+     *
+     * @param capacity Maximum number of values kept, older ones get overwritten
+     */
+    public RecordRingBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Add a value, overwriting the oldest one when the buffer is full
+     *
+     * @param value value to store
+     */
+    public void add(T value) {
+        long sequence = nextSequence.getAndIncrement();
+        slots.set((int) (sequence % capacity), new Slot<>(sequence, value));
+    }
+
+    /**
+     * Get a snapshot of the stored values without blocking writers
+     *
+     * @return values ordered from oldest to newest
+     */
+    public List<T> snapshot() {
+        long end = nextSequence.get();
+        long start = Math.max(0, end - capacity);
+
+        List<T> values = new ArrayList<>((int) (end - start));
+        for (long sequence = start; sequence < end; sequence++) {
+            Slot<T> slot = slots.get((int) (sequence % capacity));
+
+            // Skip slots still being written or already overwritten by a newer value
+            if (slot != null && slot.sequence == sequence) {
+                values.add(slot.value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Total number of values added since creation, including overwritten ones
+     */
+    public long getTotalAdded() {
+        return nextSequence.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Remove all stored values
+     */
+    public void clear() {
+        for (int i = 0; i < capacity; i++) {
+            slots.set(i, null);
+        }
+    }
+
+    private static final class Slot<T> {
+        private final long sequence;
+        private final T value;
+
+        Slot(long sequence, T value) {
+            this.sequence = sequence;
+            this.value = value;
+        }
+    }
+}
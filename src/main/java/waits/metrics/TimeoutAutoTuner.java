@@ -0,0 +1,86 @@
+package waits.metrics;
+
+import logging.Logging;
+import utils.Constants;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Derives wait timeouts from historical latencies.
+ * <p>
+ * When auto-tuning is enabled, the timeout of a wait becomes a multiple of the
+ * historical p99 for its page and condition, never above the explicit timeout
+ * configured on the builder and never below a minimum floor.
+ * Without enough history the explicit timeout is used unchanged.
+ */
+public class TimeoutAutoTuner implements Logging {
+
+    private static final double TUNING_PERCENTILE = 0.99;
+
+    private final WaitHistory history;
+    private final boolean enabled;
+    private final double multiplier;
+    private final int minSamples;
+    private final Duration floor;
+
+    /**
+     * Create a tuner configured through Constants
+     *
+     * @param history Historical latencies to tune from
+     */
+    public TimeoutAutoTuner(WaitHistory history) {
+        this(history, Constants.isTimeoutAutoTuneEnabled(), Constants.getAutoTuneMultiplier(),
+                Constants.getAutoTuneMinSamples(), Constants.getAutoTuneFloor());
+    }
+
+    /**
+     * Create a tuner with custom configuration
+     *
+     * @param history Historical latencies to tune from
+     * @param enabled Whether tuning is applied at all
+     * @param multiplier Multiple of the historical p99 used as timeout
+     * @param minSamples Minimum number of samples before tuning kicks in
+     * @param floor Lowest timeout the tuner will ever return
+     */
+    public TimeoutAutoTuner(WaitHistory history, boolean enabled, double multiplier, int minSamples, Duration floor) {
+        this.history = history;
+        this.enabled = enabled;
+        this.multiplier = multiplier;
+        this.minSamples = minSamples;
+        this.floor = floor;
+    }
+
+    /**
+     * Get the timeout to use for a wait
+     *
+     * @param pageName Page the wait belongs to
+     * @param condition Condition that is going to be waited for
+     * @param explicitTimeout Timeout configured on the builder, used as upper bound
+     * @return tuned timeout, or the explicit one when tuning is disabled or there is not enough history
+     */
+    public Duration tune(String pageName, WaitCondition condition, Duration explicitTimeout) {
+        if (!enabled) {
+            return explicitTimeout;
+        }
+
+        Optional<Duration> p99 = history.getPercentile(pageName, condition, TUNING_PERCENTILE, minSamples);
+        if (p99.isEmpty()) {
+            return explicitTimeout;
+        }
+
+        long tunedMillis = Math.max(floor.toMillis(), (long) Math.ceil(p99.get().toMillis() * multiplier));
+        Duration tuned = Duration.ofMillis(Math.min(tunedMillis, explicitTimeout.toMillis()));
+
+        if (log().isDebugEnabled()) {
+            log().debug("Auto-tuned timeout for {} on {}: {}ms (p99: {}ms, explicit: {}ms)",
+                    condition, pageName, tuned.toMillis(), p99.get().toMillis(), explicitTimeout.toMillis());
+        }
+
+        return tuned;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
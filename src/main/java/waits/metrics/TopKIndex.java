@@ -0,0 +1,106 @@
+package waits.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bounded index of the K values with the highest key, maintained as values arrive.
+ * <p>
+ * Once the index is full, values whose key does not beat the current minimum are rejected
+ * by a single volatile read, without locking - the common case for latencies. Only values
+ * that enter the top K take the lock and pay the O(log K) heap update. Queries copy at most
+ * K values, so their cost does not depend on how many values were offered.
+ * <p>
+ * This class is thread-safe.
+ *
+ * @param <T> type of the indexed values
+ */
+public class TopKIndex<T> {
+
+    private final int capacity;
+    private final ToLongFunction<T> keyFunction;
+    private final Comparator<T> ascending;
+
+    // Min-heap: the head is the value that gets evicted next
+    private final PriorityQueue<T> heap;
+
+    // Smallest key in a full index, Long.MIN_VALUE while it still has room
+    private volatile long admissionThreshold = Long.MIN_VALUE;
+
+    /**
+     * Create a top-K index
+     *
+     * @param capacity Number of values kept (K)
+     * @param keyFunction Key used to rank values, higher keys are kept
+     */
+    public TopKIndex(int capacity, ToLongFunction<T> keyFunction) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.keyFunction = keyFunction;
+        this.ascending = Comparator.comparingLong(keyFunction);
+        this.heap = new PriorityQueue<>(capacity, ascending);
+    }
+
+    /**
+     * Offer a value to the index
+     *
+     * @param value value to index, kept only if it ranks among the top K
+     */
+    public void offer(T value) {
+        long key = keyFunction.applyAsLong(value);
+        if (key <= admissionThreshold) {
+            return;
+        }
+
+        synchronized (heap) {
+            if (heap.size() < capacity) {
+                heap.add(value);
+            } else if (key > keyFunction.applyAsLong(heap.peek())) {
+                heap.poll();
+                heap.add(value);
+            } else {
+                return;
+            }
+
+            if (heap.size() == capacity) {
+                admissionThreshold = keyFunction.applyAsLong(heap.peek());
+            }
+        }
+    }
+
+    /**
+     * Get the highest ranked values
+     *
+     * @param limit Maximum number of values to return, at most K are available
+     * @return values sorted by key, highest first
+     */
+    public List<T> getTop(int limit) {
+        List<T> values;
+        synchronized (heap) {
+            values = new ArrayList<>(heap);
+        }
+
+        values.sort(ascending.reversed());
+        return values.size() > limit ? new ArrayList<>(values.subList(0, Math.max(0, limit))) : values;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Remove all indexed values
+     */
+    public void clear() {
+        synchronized (heap) {
+            heap.clear();
+            admissionThreshold = Long.MIN_VALUE;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package waits.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed set of conditions the wait builders can wait for.
+ * <p>
+ * Each condition is a template: its metric name and numeric ID never contain runtime
+ * values, so metrics grouped by condition stay bounded no matter how many different
+ * texts, URLs or titles the tests wait for. The runtime value is carried separately as
+ * the argument label (see {@link WaitLabels}) and only merged into a human-readable
+ * description when a log line or an error message actually needs it.
+ */
+public enum WaitCondition {
+
+    // Element conditions
+    ELEMENT_CLICKABLE("element to be clickable", "element to be clickable"),
+    ELEMENT_VISIBLE("element to be visible", "element to be visible"),
+    ELEMENT_INVISIBLE("element to be invisible", "element to be invisible"),
+    ELEMENT_TEXT("element to have text", "element to have text '%s'"),
+    ELEMENT_CONTAINS_TEXT("element to contain text", "element to contain text '%s'"),
+    ELEMENT_ATTRIBUTE("element to have attribute", "element to have attribute %s"),
+    ELEMENT_SELECTED("element to be selected", "element to be selected"),
+    ELEMENT_STALE("element to become stale", "element to become stale"),
+    ELEMENT_SCROLLED_INTO_VIEW("element to be scrolled into view", "element to be scrolled into view"),
+    ELEMENT_SETTLED("element to settle", "element to settle"),
+
+    // Page conditions
+    PAGE_LOAD("page to load completely", "page to load completely"),
+    PAGE_JAVASCRIPT_COMPLETE("JavaScript execution to complete", "JavaScript execution to complete"),
+    PAGE_URL_CONTAINS("URL to contain", "URL to contain '%s'"),
+    PAGE_URL_IS("URL to be", "URL to be '%s'"),
+    PAGE_URL_MATCHES("URL to match pattern", "URL to match pattern '%s'"),
+    PAGE_TITLE_CONTAINS("page title to contain", "page title to contain '%s'"),
+    PAGE_TITLE_IS("page title to be", "page title to be '%s'"),
+    PAGE_WINDOW_COUNT("number of windows to be", "number of windows to be %s"),
+    PAGE_NEW_WINDOW("new window to appear", "new window to appear"),
+    PAGE_ALERT("alert to be present", "alert to be present");
+
+    private static final WaitCondition[] BY_ID = values();
+    private static final Map<String, WaitCondition> BY_METRIC_NAME = new HashMap<>();
+
+    static {
+        for (WaitCondition condition : BY_ID) {
+            BY_METRIC_NAME.put(condition.metricName, condition);
+        }
+    }
+
+    private final String metricName;
+    private final String descriptionTemplate;
+
+    WaitCondition(String metricName, String descriptionTemplate) {
+        this.metricName = metricName;
+        this.descriptionTemplate = descriptionTemplate;
+    }
+
+    /**
+     * Number of conditions, the size of arrays indexed by {@link #getId()}
+     */
+    public static int count() {
+        return BY_ID.length;
+    }
+
+    /**
+     * Get a condition by its numeric ID
+     *
+     * @param id ID between 0 and count() - 1
+     */
+    public static WaitCondition fromId(int id) {
+        return BY_ID[id];
+    }
+
+    /**
+     * Get a condition by its metric name
+     *
+     * @param metricName Name as returned by getMetricName()
+     * @return matching condition, or null if there is none
+     */
+    public static WaitCondition fromMetricName(String metricName) {
+        return BY_METRIC_NAME.get(metricName);
+    }
+
+    /**
+     * Numeric ID, used to index per-condition counters in memory. It follows the declaration
+     * order, so it changes when conditions are added and must never be persisted: files store
+     * the metric name instead.
+     */
+    public int getId() {
+        return ordinal();
+    }
+
+    /**
+     * Stable, low-cardinality name used in reports, history files and exports
+     */
+    public String getMetricName() {
+        return metricName;
+    }
+
+    /**
+     * Build a human-readable description, e.g. "URL to contain '/login'"
+     *
+     * @param argument Runtime value of the condition, ignored by conditions without one
+     */
+    public String describe(String argument) {
+        if (descriptionTemplate.equals(metricName)) {
+            return metricName;
+        }
+        return String.format(descriptionTemplate, argument);
+    }
+
+    @Override
+    public String toString() {
+        return metricName;
+    }
+}
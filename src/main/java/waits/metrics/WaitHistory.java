@@ -0,0 +1,262 @@
+package waits.metrics;
+
+import logging.Logging;
+import utils.Constants;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the latency distribution of successful waits across test runs.
+ * <p>
+ * Latencies are grouped per page and per {@link WaitCondition} and are persisted to a local file
+ * (see {@code wait.history.file}) so the next run can use them, for example to auto-tune
+ * wait timeouts. Only the most recent samples of each group are kept.
+ * <p>
+ * This class is thread-safe. Use {@link #getInstance()} to access the shared history.
+ */
+public class WaitHistory implements Logging {
+
+    // Separator used between page, condition and samples in the history file
+    private static final String FIELD_SEPARATOR = "\t";
+
+    private static volatile WaitHistory instance;
+
+    private final Path historyFile;
+    private final int maxSamplesPerKey;
+    // Samples per page, indexed by condition ID
+    private final Map<String, AtomicReferenceArray<LatencySamples>> samplesByPage = new ConcurrentHashMap<>();
+
+    /**
+     * Create a history backed by the given file
+     *
+     * @param historyFile File used to load and persist the latencies, null to keep them in memory only
+     * @param maxSamplesPerKey Maximum number of samples kept per page and condition
+     */
+    public WaitHistory(Path historyFile, int maxSamplesPerKey) {
+        this.historyFile = historyFile;
+        this.maxSamplesPerKey = maxSamplesPerKey;
+        load();
+    }
+
+    /**
+     * Get the shared history configured through Constants.
+     * It is loaded on first access and saved when the JVM shuts down.
+     *
+     * @return shared WaitHistory instance
+     */
+    public static WaitHistory getInstance() {
+        if (instance == null) {
+            synchronized (WaitHistory.class) {
+                if (instance == null) {
+                    WaitHistory history = new WaitHistory(Paths.get(Constants.getWaitHistoryFile()),
+                            Constants.getWaitHistoryMaxSamples());
+                    Runtime.getRuntime().addShutdownHook(new Thread(history::save, "wait-history-writer"));
+                    instance = history;
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Create a history that is neither loaded nor saved, e.g. for offline tools replaying a
+     * journal, which must not rewrite the history of the test runs
+     *
+     * @return empty WaitHistory kept in memory only
+     */
+    public static WaitHistory inMemory() {
+        return new WaitHistory(null, Constants.getWaitHistoryMaxSamples());
+    }
+
+    /**
+     * Record the latency of a successful wait
+     *
+     * @param pageName Page the wait belongs to
+     * @param condition Condition that was waited for
+     * @param duration How long the wait took to complete
+     */
+    public void record(String pageName, WaitCondition condition, Duration duration) {
+        AtomicReferenceArray<LatencySamples> pageSamples = samplesForPage(pageName);
+
+        LatencySamples samples = pageSamples.get(condition.getId());
+        if (samples == null) {
+            pageSamples.compareAndSet(condition.getId(), null, new LatencySamples(maxSamplesPerKey));
+            samples = pageSamples.get(condition.getId());
+        }
+        samples.add(duration.toMillis());
+    }
+
+    /**
+     * Get a latency percentile for a page and condition
+     *
+     * @param pageName Page the wait belongs to
+     * @param condition Condition that was waited for
+     * @param percentile Percentile between 0.0 and 1.0 (e.g. 0.99)
+     * @param minSamples Minimum samples needed for the value to be meaningful
+     * @return the percentile, or empty if there is not enough history
+     */
+    public Optional<Duration> getPercentile(String pageName, WaitCondition condition, double percentile,
+                                            int minSamples) {
+        AtomicReferenceArray<LatencySamples> pageSamples = samplesByPage.get(pageOrUnknown(pageName));
+        LatencySamples samples = pageSamples != null ? pageSamples.get(condition.getId()) : null;
+        if (samples == null) {
+            return Optional.empty();
+        }
+
+        long[] sorted = samples.snapshot();
+        if (sorted.length == 0 || sorted.length < minSamples) {
+            return Optional.empty();
+        }
+
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return Optional.of(Duration.ofMillis(sorted[Math.max(0, Math.min(index, sorted.length - 1))]));
+    }
+
+    /**
+     * Persist the history to its file.
+     * The file is written to a temporary location first and then moved, so a
+     * crash while saving never leaves a half-written history behind.
+     */
+    public synchronized void save() {
+        if (historyFile == null || samplesByPage.isEmpty()) {
+            return;
+        }
+
+        try {
+            Path parent = historyFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            Path tempFile = historyFile.resolveSibling(historyFile.getFileName() + ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, AtomicReferenceArray<LatencySamples>> entry : samplesByPage.entrySet()) {
+                    for (int id = 0; id < WaitCondition.count(); id++) {
+                        LatencySamples samples = entry.getValue().get(id);
+                        long[] values = samples != null ? samples.snapshot() : new long[0];
+                        if (values.length == 0) {
+                            continue;
+                        }
+
+                        StringBuilder line = new StringBuilder(entry.getKey()).append(FIELD_SEPARATOR)
+                                .append(WaitCondition.fromId(id).getMetricName()).append(FIELD_SEPARATOR);
+                        for (int i = 0; i < values.length; i++) {
+                            if (i > 0) {
+                                line.append(',');
+                            }
+                            line.append(values[i]);
+                        }
+
+                        writer.write(line.toString());
+                        writer.newLine();
+                    }
+                }
+            }
+
+            Files.move(tempFile, historyFile, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // Logging may already be shut down when this runs from the shutdown hook
+            System.err.println("Could not save wait history to " + historyFile + ": " + e.getMessage());
+        }
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    /**
+     * Load previous runs from the history file, if it exists
+     */
+    private void load() {
+        if (historyFile == null) {
+            return;
+        }
+        if (!Files.exists(historyFile)) {
+            log().debug("No wait history found at {}", historyFile);
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(historyFile, StandardCharsets.UTF_8)) {
+            String line;
+            int loadedPairs = 0;
+            while ((line = reader.readLine()) != null) {
+                int pageSeparator = line.indexOf(FIELD_SEPARATOR);
+                int samplesSeparator = line.lastIndexOf(FIELD_SEPARATOR);
+                if (pageSeparator <= 0 || samplesSeparator <= pageSeparator) {
+                    continue;
+                }
+
+                // Entries of conditions that no longer exist (or older free-form names) are dropped
+                WaitCondition condition = WaitCondition.fromMetricName(
+                        line.substring(pageSeparator + 1, samplesSeparator));
+                if (condition == null) {
+                    continue;
+                }
+
+                LatencySamples samples = new LatencySamples(maxSamplesPerKey);
+                for (String value : line.substring(samplesSeparator + 1).split(",")) {
+                    if (!value.isEmpty()) {
+                        samples.add(Long.parseLong(value));
+                    }
+                }
+                samplesForPage(line.substring(0, pageSeparator)).set(condition.getId(), samples);
+                loadedPairs++;
+            }
+
+            log().debug("Loaded wait history for {} page/condition pairs from {}", loadedPairs, historyFile);
+        } catch (IOException | NumberFormatException e) {
+            log().warn("Could not read wait history from {}: {}", historyFile, e.getMessage());
+        }
+    }
+
+    private AtomicReferenceArray<LatencySamples> samplesForPage(String pageName) {
+        return samplesByPage.computeIfAbsent(pageOrUnknown(pageName),
+                k -> new AtomicReferenceArray<>(WaitCondition.count()));
+    }
+
+    private static String pageOrUnknown(String pageName) {
+        return pageName != null ? pageName : WaitMetrics.UNKNOWN_PAGE;
+    }
+
+    // ========== NESTED SAMPLE WINDOW ==========
+
+    /**
+     * Fixed-size window holding the most recent latencies (in milliseconds) of one page/condition pair
+     */
+    private static class LatencySamples {
+        private final long[] values;
+        private int next;
+        private int size;
+
+        LatencySamples(int capacity) {
+            this.values = new long[capacity];
+        }
+
+        synchronized void add(long value) {
+            values[next] = value;
+            next = (next + 1) % values.length;
+            size = Math.min(size + 1, values.length);
+        }
+
+        synchronized long[] snapshot() {
+            long[] copy = new long[size];
+            int start = (next - size + values.length) % values.length;
+            for (int i = 0; i < size; i++) {
+                copy[i] = values[(start + i) % values.length];
+            }
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package waits.metrics;
+
+/**
+ * Labels describing where a wait ran, kept apart from its {@link WaitCondition}.
+ * <p>
+ * Only the page label is used to group aggregated metrics, and its cardinality is capped
+ * by {@link LabelLimiter}. Locator and argument are free-form and are only stored in
+ * detailed wait records, truncated to a bounded length.
+ */
+public final class WaitLabels {
+
+    // Longer locators and arguments are truncated before being stored
+    static final int MAX_LABEL_LENGTH = 120;
+
+    private static final WaitLabels UNKNOWN = new WaitLabels(WaitMetrics.UNKNOWN_PAGE, null, null);
+
+    private final String pageName;
+    private final String locator;
+    private final String argument;
+
+    /**
+     * Create labels for a wait
+     *
+     * @param pageName Page the wait belongs to
+     * @param locator Locator of the element waited for, or null for page waits
+     * @param argument Runtime value of the condition (expected text, URL...), or null
+     */
+    public WaitLabels(String pageName, String locator, String argument) {
+        this.pageName = pageName != null ? pageName : WaitMetrics.UNKNOWN_PAGE;
+        this.locator = truncate(locator);
+        this.argument = truncate(argument);
+    }
+
+    /**
+     * Labels for waits that were not tagged with a page
+     */
+    public static WaitLabels unknown() {
+        return UNKNOWN;
+    }
+
+    public String getPageName() {
+        return pageName;
+    }
+
+    public String getLocator() {
+        return locator;
+    }
+
+    public String getArgument() {
+        return argument;
+    }
+
+    /**
+     * Copy of these labels with another page name, used when the page label overflows
+     */
+    WaitLabels withPageName(String newPageName) {
+        return newPageName.equals(pageName) ? this : new WaitLabels(newPageName, locator, argument);
+    }
+
+    private static String truncate(String label) {
+        if (label == null || label.length() <= MAX_LABEL_LENGTH) {
+            return label;
+        }
+        return label.substring(0, MAX_LABEL_LENGTH - 3) + "...";
+    }
+}
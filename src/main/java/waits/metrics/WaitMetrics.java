@@ -1,23 +1,38 @@
 package waits.metrics;
 
+import journal.RecordJournal;
 import logging.Logging;
+import utils.Constants;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Collects and analyzes performance metrics for wait operations.
  * Provides insights into wait times, success rates, and performance patterns.
  * <p>
+ * Metrics are grouped by {@link WaitCondition} - indexed by its numeric ID - and by page.
+ * Runtime values such as expected texts or URLs never become grouping keys, and the number
+ * of distinct pages is capped (see {@code wait.metrics.max.pages}), so memory stays bounded.
+ * <p>
  * This class is thread-safe and can be used across multiple test threads
  * to aggregate metrics from parallel test execution.
  */
 public class WaitMetrics implements Logging {
 
+    // Page name used for waits that were not tagged with a page
+    public static final String UNKNOWN_PAGE = "unknown-page";
+
+    // Number of records kept by the slowest-waits and recent-failures indexes
+    private static final int INDEXED_RECORDS = 100;
+
     // Thread-safe counters for basic statistics
     private final AtomicInteger totalWaitsAttempted = new AtomicInteger(0);
     private final AtomicInteger totalWaitsSuccessful = new AtomicInteger(0);
@@ -26,19 +41,37 @@ public class WaitMetrics implements Logging {
     // Thread-safe accumulator for total time spent waiting
     private final AtomicLong totalWaitTimeMillis = new AtomicLong(0);
 
-    // Thread-safe maps for detailed metrics by condition type
-    private final Map<String, AtomicInteger> successfulWaitsByCondition = new ConcurrentHashMap<>();
-    private final Map<String, AtomicInteger> failedWaitsByCondition = new ConcurrentHashMap<>();
-    private final Map<String, AtomicLong> totalTimeByCondition = new ConcurrentHashMap<>();
+    // Thread-safe counters by condition type, indexed by WaitCondition ID
+    private final AtomicIntegerArray successfulWaitsByCondition = new AtomicIntegerArray(WaitCondition.count());
+    private final AtomicIntegerArray failedWaitsByCondition = new AtomicIntegerArray(WaitCondition.count());
+    private final AtomicLongArray totalTimeByCondition = new AtomicLongArray(WaitCondition.count());
+
+    // Lock-free latency histograms - overall, per condition (created on first use) and per page
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    private final AtomicReferenceArray<LatencyHistogram> latencyByCondition =
+            new AtomicReferenceArray<>(WaitCondition.count());
+    private final Map<String, LatencyHistogram> latencyByPage = new ConcurrentHashMap<>();
+
+    // Caps the number of distinct page labels
+    private final LabelLimiter pageLabels = new LabelLimiter(Constants.getMetricsMaxPageLabels());
 
     // Store individual wait records for detailed analysis
-    // Using Collections.synchronizedList for thread safety
-    private final List<WaitRecord> waitRecords = Collections.synchronizedList(new ArrayList<>());
+    // Lock-free ring buffer: the oldest records are overwritten once maxRecordsToKeep is reached
+    private final RecordRingBuffer<WaitRecord> waitRecords;
+
+    // Indexes maintained as records arrive, so reports don't scan the whole record window
+    private final TopKIndex<WaitRecord> slowestWaits =
+            new TopKIndex<>(INDEXED_RECORDS, record -> record.getDuration().toNanos());
+    private final RecordRingBuffer<WaitRecord> recentFailedWaits = new RecordRingBuffer<>(INDEXED_RECORDS);
 
     // Configuration for how much detail to keep
     private final int maxRecordsToKeep;
     private final boolean enableDetailedRecords;
 
+    // Latencies shared across runs, used to auto-tune timeouts
+    private final WaitHistory history;
+    private final TimeoutAutoTuner timeoutTuner;
+
     /**
      * Create WaitMetrics with default configuration
      * Keeps last 1000 wait records for detailed analysis
@@ -54,8 +87,22 @@ public class WaitMetrics implements Logging {
      * @param enableDetailedRecords Whether to store individual wait records
      */
     public WaitMetrics(int maxRecordsToKeep, boolean enableDetailedRecords) {
+        this(maxRecordsToKeep, enableDetailedRecords, WaitHistory.getInstance());
+    }
+
+    /**
+     * Create WaitMetrics with custom configuration and latency history
+     *
+     * @param maxRecordsToKeep Maximum number of detailed records to keep in memory
+     * @param enableDetailedRecords Whether to store individual wait records
+     * @param history History where successful wait latencies are persisted across runs
+     */
+    public WaitMetrics(int maxRecordsToKeep, boolean enableDetailedRecords, WaitHistory history) {
         this.maxRecordsToKeep = maxRecordsToKeep;
+        this.waitRecords = new RecordRingBuffer<>(maxRecordsToKeep);
         this.enableDetailedRecords = enableDetailedRecords;
+        this.history = history;
+        this.timeoutTuner = new TimeoutAutoTuner(history);
         log().debug("WaitMetrics initialized - maxRecords: {}, detailedRecords: {}",
                 maxRecordsToKeep, enableDetailedRecords);
     }
@@ -63,24 +110,33 @@ public class WaitMetrics implements Logging {
     /**
      * Record a successful wait operation
      *
-     * @param conditionName Human-readable name of the condition that was waited for
+     * @param condition Condition that was waited for
+     * @param labels Page, locator and argument of the wait
      * @param duration How long the wait took to complete
      */
-    public void recordSuccessfulWait(String conditionName, Duration duration) {
+    public void recordSuccessfulWait(WaitCondition condition, WaitLabels labels, Duration duration) {
+        String pageName = pageLabels.limit(labels.getPageName());
+        int conditionId = condition.getId();
+
         // Update overall counters
         totalWaitsAttempted.incrementAndGet();
         totalWaitsSuccessful.incrementAndGet();
         totalWaitTimeMillis.addAndGet(duration.toMillis());
 
         // Update condition-specific counters
-        successfulWaitsByCondition.computeIfAbsent(conditionName, k -> new AtomicInteger(0)).incrementAndGet();
-        totalTimeByCondition.computeIfAbsent(conditionName, k -> new AtomicLong(0)).addAndGet(duration.toMillis());
+        successfulWaitsByCondition.incrementAndGet(conditionId);
+        totalTimeByCondition.addAndGet(conditionId, duration.toMillis());
+        recordLatency(pageName, condition, duration);
+
+        // Only successful waits describe how long a condition really takes
+        history.record(pageName, condition, duration);
 
         // Store detailed record if enabled
         if (enableDetailedRecords) {
             WaitRecord record = new WaitRecord(
                     Instant.now(),
-                    conditionName,
+                    condition,
+                    labels.withPageName(pageName),
                     duration,
                     true,
                     null, // No error message for successful waits
@@ -90,31 +146,41 @@ public class WaitMetrics implements Logging {
             addWaitRecord(record);
         }
 
-        log().debug("Recorded successful wait: {} took {}ms", conditionName, duration.toMillis());
+        RecordJournal.getInstance().recordWait(condition, duration.toNanos(), true);
+
+        if (log().isDebugEnabled()) {
+            log().debug("Recorded successful wait: {} took {}ms", condition, duration.toMillis());
+        }
     }
 
     /**
      * Record a failed wait operation
      *
-     * @param conditionName Human-readable name of the condition that failed
+     * @param condition Condition that failed
+     * @param labels Page, locator and argument of the wait
      * @param duration How long we waited before timing out
      * @param errorMessage Error message from the timeout exception
      */
-    public void recordFailedWait(String conditionName, Duration duration, String errorMessage) {
+    public void recordFailedWait(WaitCondition condition, WaitLabels labels, Duration duration, String errorMessage) {
+        String pageName = pageLabels.limit(labels.getPageName());
+        int conditionId = condition.getId();
+
         // Update overall counters
         totalWaitsAttempted.incrementAndGet();
         totalWaitsFailed.incrementAndGet();
         totalWaitTimeMillis.addAndGet(duration.toMillis());
 
         // Update condition-specific counters
-        failedWaitsByCondition.computeIfAbsent(conditionName, k -> new AtomicInteger(0)).incrementAndGet();
-        totalTimeByCondition.computeIfAbsent(conditionName, k -> new AtomicLong(0)).addAndGet(duration.toMillis());
+        failedWaitsByCondition.incrementAndGet(conditionId);
+        totalTimeByCondition.addAndGet(conditionId, duration.toMillis());
+        recordLatency(pageName, condition, duration);
 
         // Store detailed record if enabled
         if (enableDetailedRecords) {
             WaitRecord record = new WaitRecord(
                     Instant.now(),
-                    conditionName,
+                    condition,
+                    labels.withPageName(pageName),
                     duration,
                     false,
                     errorMessage,
@@ -124,8 +190,47 @@ public class WaitMetrics implements Logging {
             addWaitRecord(record);
         }
 
+        RecordJournal.getInstance().recordWait(condition, duration.toNanos(), false);
+
         log().warn("Recorded failed wait: {} failed after {}ms - {}",
-                conditionName, duration.toMillis(), errorMessage);
+                condition.describe(labels.getArgument()), duration.toMillis(), errorMessage);
+    }
+
+    /**
+     * Record a wait of a past run, e.g. read back from a journal.
+     * Counters, histograms and records are updated like for a live wait, but the latency
+     * history and the journal are not, since the wait was already persisted.
+     *
+     * @param record Wait to add, keeping its original timestamp and thread
+     */
+    public void replayWait(WaitRecord record) {
+        String pageName = pageLabels.limit(record.getPageName());
+        int conditionId = record.getCondition().getId();
+        long durationMillis = record.getDuration().toMillis();
+
+        totalWaitsAttempted.incrementAndGet();
+        (record.isSuccessful() ? totalWaitsSuccessful : totalWaitsFailed).incrementAndGet();
+        totalWaitTimeMillis.addAndGet(durationMillis);
+
+        (record.isSuccessful() ? successfulWaitsByCondition : failedWaitsByCondition).incrementAndGet(conditionId);
+        totalTimeByCondition.addAndGet(conditionId, durationMillis);
+        recordLatency(pageName, record.getCondition(), record.getDuration());
+
+        if (enableDetailedRecords) {
+            addWaitRecord(record);
+        }
+    }
+
+    /**
+     * Get the timeout to use for a wait, auto-tuned from historical latencies when enabled
+     *
+     * @param condition Condition about to be waited for
+     * @param labels Page, locator and argument of the wait
+     * @param explicitTimeout Timeout configured on the builder, never exceeded
+     * @return timeout to apply to the wait
+     */
+    public Duration tuneTimeout(WaitCondition condition, WaitLabels labels, Duration explicitTimeout) {
+        return timeoutTuner.tune(pageLabels.limit(labels.getPageName()), condition, explicitTimeout);
     }
 
     /**
@@ -159,38 +264,103 @@ public class WaitMetrics implements Logging {
     /**
      * Get average wait time for a specific condition
      *
-     * @param conditionName Name of the condition to analyze
+     * @param conditionName Metric name of the condition to analyze
      * @return Average wait time for this condition, or Duration.ZERO if condition not found
      */
     public Duration getAverageWaitTimeForCondition(String conditionName) {
-        AtomicLong totalTime = totalTimeByCondition.get(conditionName);
-        if (totalTime == null) {
-            return Duration.ZERO;
-        }
+        WaitCondition condition = WaitCondition.fromMetricName(conditionName);
+        return condition != null ? getAverageWaitTimeForCondition(condition) : Duration.ZERO;
+    }
 
+    /**
+     * Get average wait time for a specific condition
+     *
+     * @param condition Condition to analyze
+     * @return Average wait time for this condition, or Duration.ZERO if it was never waited for
+     */
+    public Duration getAverageWaitTimeForCondition(WaitCondition condition) {
         // Calculate total attempts for this condition (successful + failed)
-        int successfulCount = successfulWaitsByCondition.getOrDefault(conditionName, new AtomicInteger(0)).get();
-        int failedCount = failedWaitsByCondition.getOrDefault(conditionName, new AtomicInteger(0)).get();
-        int totalCount = successfulCount + failedCount;
+        int totalCount = successfulWaitsByCondition.get(condition.getId())
+                + failedWaitsByCondition.get(condition.getId());
 
         if (totalCount == 0) {
             return Duration.ZERO;
         }
 
-        long averageMillis = totalTime.get() / totalCount;
+        long averageMillis = totalTimeByCondition.get(condition.getId()) / totalCount;
         return Duration.ofMillis(averageMillis);
     }
 
+    /**
+     * Get the latency histogram of all waits
+     *
+     * @return LatencyHistogram with every recorded wait, successful or not
+     */
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
+    /**
+     * Get the latency histogram of a specific condition
+     *
+     * @param conditionName Metric name of the condition to analyze
+     * @return LatencyHistogram for this condition, empty if condition not found
+     */
+    public LatencyHistogram getLatencyHistogramForCondition(String conditionName) {
+        WaitCondition condition = WaitCondition.fromMetricName(conditionName);
+        return condition != null ? getLatencyHistogramForCondition(condition) : new LatencyHistogram();
+    }
+
+    /**
+     * Get the latency histogram of a specific condition
+     *
+     * @param condition Condition to analyze
+     * @return LatencyHistogram for this condition, empty if it was never waited for
+     */
+    public LatencyHistogram getLatencyHistogramForCondition(WaitCondition condition) {
+        LatencyHistogram histogram = latencyByCondition.get(condition.getId());
+        return histogram != null ? histogram : new LatencyHistogram();
+    }
+
+    /**
+     * Get the latency histogram of all waits performed on a page
+     *
+     * @param pageName Name of the page to analyze, or LabelLimiter.OVERFLOW_LABEL for pages beyond the limit
+     * @return LatencyHistogram for this page, empty if page not found
+     */
+    public LatencyHistogram getLatencyHistogramForPage(String pageName) {
+        return latencyByPage.getOrDefault(pageName, new LatencyHistogram());
+    }
+
+    /**
+     * Get list of all page names that have been recorded
+     *
+     * @return Set of page names, sorted alphabetically
+     */
+    public Set<String> getAllPageNames() {
+        return new TreeSet<>(latencyByPage.keySet());
+    }
+
     /**
      * Get success rate for a specific condition
      *
-     * @param conditionName Name of the condition to analyze
+     * @param conditionName Metric name of the condition to analyze
      * @return Success rate between 0.0 and 100.0, or 0.0 if condition not found
      */
     public double getSuccessRateForCondition(String conditionName) {
-        int successfulCount = successfulWaitsByCondition.getOrDefault(conditionName, new AtomicInteger(0)).get();
-        int failedCount = failedWaitsByCondition.getOrDefault(conditionName, new AtomicInteger(0)).get();
-        int totalCount = successfulCount + failedCount;
+        WaitCondition condition = WaitCondition.fromMetricName(conditionName);
+        return condition != null ? getSuccessRateForCondition(condition) : 0.0;
+    }
+
+    /**
+     * Get success rate for a specific condition
+     *
+     * @param condition Condition to analyze
+     * @return Success rate between 0.0 and 100.0, or 0.0 if it was never waited for
+     */
+    public double getSuccessRateForCondition(WaitCondition condition) {
+        int successfulCount = successfulWaitsByCondition.get(condition.getId());
+        int totalCount = successfulCount + failedWaitsByCondition.get(condition.getId());
 
         if (totalCount == 0) {
             return 0.0;
@@ -199,22 +369,45 @@ public class WaitMetrics implements Logging {
         return (double) successfulCount / totalCount * 100.0;
     }
 
+    /**
+     * Get the number of successful waits for a condition
+     *
+     * @param condition Condition to analyze
+     * @return successful waits since creation or the last clear
+     */
+    public int getSuccessfulWaitCount(WaitCondition condition) {
+        return successfulWaitsByCondition.get(condition.getId());
+    }
+
+    /**
+     * Get the number of failed waits for a condition
+     *
+     * @param condition Condition to analyze
+     * @return failed waits since creation or the last clear
+     */
+    public int getFailedWaitCount(WaitCondition condition) {
+        return failedWaitsByCondition.get(condition.getId());
+    }
+
     /**
      * Get list of all condition names that have been recorded
      *
-     * @return Set of condition names, sorted alphabetically
+     * @return Set of condition metric names, sorted alphabetically
      */
     public Set<String> getAllConditionNames() {
         Set<String> allConditions = new TreeSet<>(); // TreeSet for automatic sorting
-        allConditions.addAll(successfulWaitsByCondition.keySet());
-        allConditions.addAll(failedWaitsByCondition.keySet());
+        for (int id = 0; id < WaitCondition.count(); id++) {
+            if (successfulWaitsByCondition.get(id) + failedWaitsByCondition.get(id) > 0) {
+                allConditions.add(WaitCondition.fromId(id).getMetricName());
+            }
+        }
         return allConditions;
     }
 
     /**
      * Get the slowest waits recorded
      *
-     * @param limit Maximum number of records to return
+     * @param limit Maximum number of records to return, at most 100 are indexed
      * @return List of slowest wait records, sorted by duration (slowest first)
      */
     public List<WaitRecord> getSlowestWaits(int limit) {
@@ -223,16 +416,13 @@ public class WaitMetrics implements Logging {
             return Collections.emptyList();
         }
 
-        return waitRecords.stream()
-                .sorted((r1, r2) -> r2.getDuration().compareTo(r1.getDuration())) // Sort descending by duration
-                .limit(limit)
-                .collect(ArrayList::new, (list, record) -> list.add(record), (list1, list2) -> list1.addAll(list2));
+        return slowestWaits.getTop(limit);
     }
 
     /**
      * Get recent failed waits for debugging
      *
-     * @param limit Maximum number of records to return
+     * @param limit Maximum number of records to return, at most 100 are indexed
      * @return List of recent failed waits, sorted by time (most recent first)
      */
     public List<WaitRecord> getRecentFailedWaits(int limit) {
@@ -241,11 +431,22 @@ public class WaitMetrics implements Logging {
             return Collections.emptyList();
         }
 
-        return waitRecords.stream()
-                .filter(record -> !record.isSuccessful()) // Only failed waits
-                .sorted((r1, r2) -> r2.getTimestamp().compareTo(r1.getTimestamp())) // Sort by time, newest first
-                .limit(limit)
-                .collect(ArrayList::new, (list, record) -> list.add(record), (list1, list2) -> list1.addAll(list2));
+        return newestFirst(recentFailedWaits.snapshot(), limit);
+    }
+
+    /**
+     * Get the most recent waits, successful or not
+     *
+     * @param limit Maximum number of records to return
+     * @return List of recent wait records, sorted by time (most recent first)
+     */
+    public List<WaitRecord> getRecentWaits(int limit) {
+        if (!enableDetailedRecords) {
+            log().warn("Cannot provide recent waits - detailed records are disabled");
+            return Collections.emptyList();
+        }
+
+        return newestFirst(waitRecords.snapshot(), limit);
     }
 
     /**
@@ -256,29 +457,76 @@ public class WaitMetrics implements Logging {
     public String generateSummaryReport() {
         StringBuilder report = new StringBuilder();
 
-        report.append("=== Wait Metrics Summary ===%n");
+        report.append(String.format("=== Wait Metrics Summary ===%n"));
         report.append(String.format("Total waits attempted: %d%n", totalWaitsAttempted.get()));
         report.append(String.format("Successful waits: %d%n", totalWaitsSuccessful.get()));
         report.append(String.format("Failed waits: %d%n", totalWaitsFailed.get()));
         report.append(String.format("Overall success rate: %.2f%%%n", getSuccessRate()));
-        report.append(String.format("Average wait time: %dms%n", getAverageWaitTime().toMillis()));
+        report.append(String.format("Wait time: %s%n", formatPercentiles(latencyHistogram)));
 
         if (!getAllConditionNames().isEmpty()) {
-            report.append("%n=== By Condition Type ===%n");
+            report.append(String.format("%n=== By Condition Type ===%n"));
             for (String condition : getAllConditionNames()) {
-                int successful = successfulWaitsByCondition.getOrDefault(condition, new AtomicInteger(0)).get();
-                int failed = failedWaitsByCondition.getOrDefault(condition, new AtomicInteger(0)).get();
+                int id = WaitCondition.fromMetricName(condition).getId();
+                int successful = successfulWaitsByCondition.get(id);
+                int failed = failedWaitsByCondition.get(id);
                 double successRate = getSuccessRateForCondition(condition);
-                long avgTime = getAverageWaitTimeForCondition(condition).toMillis();
+                String percentiles = formatPercentiles(getLatencyHistogramForCondition(condition));
+
+                report.append(String.format("%s: %d successful, %d failed (%.1f%% success, %s)%n",
+                        condition, successful, failed, successRate, percentiles));
+            }
+        }
 
-                report.append(String.format("%s: %d successful, %d failed (%.1f%% success, %dms avg)%n",
-                        condition, successful, failed, successRate, avgTime));
+        if (!latencyByPage.isEmpty()) {
+            report.append(String.format("%n=== By Page ===%n"));
+            for (String page : getAllPageNames()) {
+                LatencyHistogram pageHistogram = getLatencyHistogramForPage(page);
+                report.append(String.format("%s: %d waits (%s)%n",
+                        page, pageHistogram.getCount(), formatPercentiles(pageHistogram)));
             }
         }
 
         return report.toString();
     }
 
+    /**
+     * Add all metrics collected by another instance to this one.
+     * Counters and histograms are merged bucket by bucket, so the cost does not depend on
+     * how many waits were recorded. Indexed records are merged when both instances keep them.
+     *
+     * @param other metrics to merge, left unchanged
+     */
+    public void mergeFrom(WaitMetrics other) {
+        totalWaitsAttempted.addAndGet(other.totalWaitsAttempted.get());
+        totalWaitsSuccessful.addAndGet(other.totalWaitsSuccessful.get());
+        totalWaitsFailed.addAndGet(other.totalWaitsFailed.get());
+        totalWaitTimeMillis.addAndGet(other.totalWaitTimeMillis.get());
+
+        for (int id = 0; id < WaitCondition.count(); id++) {
+            successfulWaitsByCondition.addAndGet(id, other.successfulWaitsByCondition.get(id));
+            failedWaitsByCondition.addAndGet(id, other.failedWaitsByCondition.get(id));
+            totalTimeByCondition.addAndGet(id, other.totalTimeByCondition.get(id));
+
+            LatencyHistogram otherHistogram = other.latencyByCondition.get(id);
+            if (otherHistogram != null) {
+                conditionHistogram(id).mergeFrom(otherHistogram);
+            }
+        }
+
+        latencyHistogram.mergeFrom(other.latencyHistogram);
+        for (Map.Entry<String, LatencyHistogram> entry : other.latencyByPage.entrySet()) {
+            latencyByPage.computeIfAbsent(pageLabels.limit(entry.getKey()), k -> new LatencyHistogram())
+                    .mergeFrom(entry.getValue());
+        }
+
+        if (enableDetailedRecords && other.enableDetailedRecords) {
+            other.waitRecords.snapshot().forEach(waitRecords::add);
+            other.slowestWaits.getTop(INDEXED_RECORDS).forEach(slowestWaits::offer);
+            other.recentFailedWaits.snapshot().forEach(recentFailedWaits::add);
+        }
+    }
+
     /**
      * Clear all collected metrics
      * Useful for resetting metrics between test suites
@@ -289,10 +537,18 @@ public class WaitMetrics implements Logging {
         totalWaitsFailed.set(0);
         totalWaitTimeMillis.set(0);
 
-        successfulWaitsByCondition.clear();
-        failedWaitsByCondition.clear();
-        totalTimeByCondition.clear();
+        for (int id = 0; id < WaitCondition.count(); id++) {
+            successfulWaitsByCondition.set(id, 0);
+            failedWaitsByCondition.set(id, 0);
+            totalTimeByCondition.set(id, 0);
+            latencyByCondition.set(id, null);
+        }
+        latencyHistogram.reset();
+        latencyByPage.clear();
+        pageLabels.clear();
         waitRecords.clear();
+        slowestWaits.clear();
+        recentFailedWaits.clear();
 
         log().debug("All wait metrics cleared");
     }
@@ -300,22 +556,57 @@ public class WaitMetrics implements Logging {
     // ========== PRIVATE HELPER METHODS ==========
 
     /**
-     * Add a wait record, managing the size limit
+     * Add a wait duration to the overall, condition and page histograms
+     */
+    private void recordLatency(String pageName, WaitCondition condition, Duration duration) {
+        latencyHistogram.record(duration);
+
+        conditionHistogram(condition.getId()).record(duration);
+        latencyByPage.computeIfAbsent(pageName, k -> new LatencyHistogram()).record(duration);
+    }
+
+    /**
+     * Get the histogram of a condition, creating it on first use
+     */
+    private LatencyHistogram conditionHistogram(int conditionId) {
+        LatencyHistogram histogram = latencyByCondition.get(conditionId);
+        if (histogram == null) {
+            latencyByCondition.compareAndSet(conditionId, null, new LatencyHistogram());
+            histogram = latencyByCondition.get(conditionId);
+        }
+        return histogram;
+    }
+
+    /**
+     * Format the percentiles of a histogram for reports, e.g. "p50=120ms p90=480ms p99=2100ms p999=2100ms max=2300ms"
+     */
+    static String formatPercentiles(LatencyHistogram histogram) {
+        return String.format("p50=%dms p90=%dms p99=%dms p999=%dms max=%dms",
+                histogram.getP50().toMillis(), histogram.getP90().toMillis(), histogram.getP99().toMillis(),
+                histogram.getP999().toMillis(), histogram.getMax().toMillis());
+    }
+
+    /**
+     * Add a wait record, the ring buffer drops the oldest one once the size limit is reached
      */
     private void addWaitRecord(WaitRecord record) {
         waitRecords.add(record);
+        slowestWaits.offer(record);
 
-        // Remove oldest records if we exceed the limit
-        // This prevents memory issues during long test runs
-        if (waitRecords.size() > maxRecordsToKeep) {
-            int excessRecords = waitRecords.size() - maxRecordsToKeep;
-            for (int i = 0; i < excessRecords; i++) {
-                waitRecords.remove(0); // Remove from beginning (oldest records)
-            }
+        if (!record.isSuccessful()) {
+            recentFailedWaits.add(record);
+        }
+    }
 
-            log().debug("Removed {} old wait records to stay within limit of {}",
-                    excessRecords, maxRecordsToKeep);
+    /**
+     * Reverse a snapshot ordered from oldest to newest, keeping at most limit records
+     */
+    private static List<WaitRecord> newestFirst(List<WaitRecord> snapshot, int limit) {
+        List<WaitRecord> records = new ArrayList<>(Math.min(snapshot.size(), Math.max(0, limit)));
+        for (int i = snapshot.size() - 1; i >= 0 && records.size() < limit; i--) {
+            records.add(snapshot.get(i));
         }
+        return records;
     }
 
     // ========== NESTED RECORD CLASS ==========
@@ -326,16 +617,18 @@ public class WaitMetrics implements Logging {
      */
     public static class WaitRecord {
         private final Instant timestamp;
-        private final String conditionName;
+        private final WaitCondition condition;
+        private final WaitLabels labels;
         private final Duration duration;
         private final boolean successful;
         private final String errorMessage;
         private final String threadName;
 
-        public WaitRecord(Instant timestamp, String conditionName, Duration duration,
+        public WaitRecord(Instant timestamp, WaitCondition condition, WaitLabels labels, Duration duration,
                           boolean successful, String errorMessage, String threadName) {
             this.timestamp = timestamp;
-            this.conditionName = conditionName;
+            this.condition = condition;
+            this.labels = labels;
             this.duration = duration;
             this.successful = successful;
             this.errorMessage = errorMessage;
@@ -344,17 +637,28 @@ public class WaitMetrics implements Logging {
 
         // Getters for all fields
         public Instant getTimestamp() { return timestamp; }
-        public String getConditionName() { return conditionName; }
+        public WaitCondition getCondition() { return condition; }
+        public String getConditionName() { return condition.getMetricName(); }
+        public String getPageName() { return labels.getPageName(); }
+        public String getLocator() { return labels.getLocator(); }
+        public String getArgument() { return labels.getArgument(); }
         public Duration getDuration() { return duration; }
         public boolean isSuccessful() { return successful; }
         public String getErrorMessage() { return errorMessage; }
         public String getThreadName() { return threadName; }
 
+        /**
+         * Human-readable description of the condition including its argument, e.g. "URL to contain '/login'"
+         */
+        public String getDescription() {
+            return condition.describe(labels.getArgument());
+        }
+
         @Override
         public String toString() {
-            return String.format("WaitRecord{%s, %s, %dms, %s, thread=%s}",
-                    timestamp, conditionName, duration.toMillis(),
+            return String.format("WaitRecord{%s, %s, %s, %dms, %s, thread=%s}",
+                    timestamp, labels.getPageName(), getDescription(), duration.toMillis(),
                     successful ? "SUCCESS" : "FAILED", threadName);
         }
     }
-}
\ No newline at end of file
+}
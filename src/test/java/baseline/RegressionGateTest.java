@@ -0,0 +1,133 @@
+package baseline;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import waits.metrics.LatencyHistogram;
+import waits.metrics.WaitCondition;
+import waits.metrics.WaitHistory;
+import waits.metrics.WaitLabels;
+import waits.metrics.WaitMetrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Checks the Mann-Whitney U test and the verdicts of RegressionGate on known distributions.
+ * Values below 32µs each have their own histogram bucket, so they behave as raw samples.
+ */
+public class RegressionGateTest {
+
+    private static final WaitCondition CONDITION = WaitCondition.ELEMENT_VISIBLE;
+
+    // ========== MANN-WHITNEY U TEST ==========
+
+    @Test(description = "Identical distributions are not significantly slower")
+    public void identicalDistributions() {
+        LatencyHistogram samples = histogram(1, 2, 3, 4, 5, 6, 7, 8);
+        double pValue = RegressionGate.mannWhitneyPValue(samples, histogram(1, 2, 3, 4, 5, 6, 7, 8));
+
+        Assert.assertTrue(pValue > 0.5, "p-value of identical samples: " + pValue);
+    }
+
+    @Test(description = "A run shifted above the baseline is significantly slower, the reverse isn't")
+    public void shiftedDistributions() {
+        LatencyHistogram fast = histogram(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        LatencyHistogram slow = histogram(11, 12, 13, 14, 15, 16, 17, 18, 19, 20);
+
+        Assert.assertTrue(RegressionGate.mannWhitneyPValue(fast, slow) < 0.001);
+        Assert.assertTrue(RegressionGate.mannWhitneyPValue(slow, fast) > 0.999);
+    }
+
+    @Test(description = "p-value of U = 9 for 3 + 3 samples without ties")
+    public void uStatisticWithoutTies() {
+        // U = 9, variance = 3 * 3 / 12 * 7 = 5.25, z = (9 - 4.5 - 0.5) / sqrt(5.25)
+        double pValue = RegressionGate.mannWhitneyPValue(histogram(1, 2, 3), histogram(4, 5, 6));
+
+        Assert.assertEquals(pValue, 0.0404278, 1e-6);
+    }
+
+    @Test(description = "Ties count half in U and reduce the variance")
+    public void tieCorrection() {
+        // U = 2.5 + 6 = 8.5, three groups of 2 ties: variance = 3 * 3 / 12 * (7 - 18 / 30) = 4.8
+        double pValue = RegressionGate.mannWhitneyPValue(histogram(1, 1, 2), histogram(2, 3, 3));
+
+        Assert.assertEquals(pValue, 0.0550745, 1e-6);
+    }
+
+    @Test(description = "All values tied or a side without values give no evidence")
+    public void allTiedOrEmpty() {
+        Assert.assertEquals(RegressionGate.mannWhitneyPValue(histogram(5, 5, 5), histogram(5, 5, 5, 5)), 1.0);
+        Assert.assertEquals(RegressionGate.mannWhitneyPValue(histogram(), histogram(1, 2, 3)), 1.0);
+        Assert.assertEquals(RegressionGate.mannWhitneyPValue(histogram(1, 2, 3), histogram()), 1.0);
+    }
+
+    // ========== VERDICTS ==========
+
+    @Test(description = "A significantly slower median above the threshold is a regression")
+    public void regression() throws IOException {
+        RegressionGate.Comparison comparison = compare(0.2, 10, waits(20, 10), waits(20, 20));
+
+        Assert.assertTrue(comparison.isRegression(), comparison.toString());
+    }
+
+    @Test(description = "A significant slowdown below the threshold is not a regression")
+    public void slowdownBelowThreshold() throws IOException {
+        RegressionGate.Comparison comparison = compare(0.2, 10, waits(50, 10), waits(50, 11));
+
+        Assert.assertTrue(comparison.getPValue() < 0.01, comparison.toString());
+        Assert.assertEquals(comparison.getVerdict(), RegressionGate.Comparison.VERDICT_OK);
+    }
+
+    @Test(description = "Too few waits on either side are never flagged")
+    public void tooFewSamples() throws IOException {
+        RegressionGate.Comparison fewInRun = compare(0.2, 30, waits(50, 10), waits(20, 20));
+        RegressionGate.Comparison fewInBaseline = compare(0.2, 30, waits(20, 10), waits(50, 20));
+
+        Assert.assertEquals(fewInRun.getVerdict(), RegressionGate.Comparison.VERDICT_TOO_FEW_SAMPLES);
+        Assert.assertEquals(fewInBaseline.getVerdict(), RegressionGate.Comparison.VERDICT_TOO_FEW_SAMPLES);
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static LatencyHistogram histogram(long... micros) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value : micros) {
+            histogram.recordMicros(value);
+        }
+        return histogram;
+    }
+
+    /**
+     * Metrics with the given number of waits around a median, spread by a few milliseconds
+     */
+    private static WaitMetrics waits(int count, long medianMillis) {
+        WaitMetrics metrics = new WaitMetrics(count, false, WaitHistory.inMemory());
+        for (int i = 0; i < count; i++) {
+            long spreadMicros = (i % 5 - 2) * 200L;
+            metrics.recordSuccessfulWait(CONDITION, WaitLabels.unknown(),
+                    Duration.ofMillis(medianMillis).plusNanos(spreadMicros * 1_000));
+        }
+        return metrics;
+    }
+
+    /**
+     * Condition comparison of a run with a baseline built from other metrics, alpha 0.01
+     */
+    private static RegressionGate.Comparison compare(double threshold, int minSamples, WaitMetrics baseline,
+                                                     WaitMetrics run) throws IOException {
+        Path baselineFile = Files.createTempDirectory("regression-gate").resolve("baseline.tsv");
+        BaselineStore store = new BaselineStore(baselineFile);
+        store.updateFrom(baseline);
+
+        List<RegressionGate.Comparison> comparisons = new RegressionGate(store, threshold, 0.01, minSamples)
+                .compare(run);
+        return comparisons.stream()
+                .filter(comparison -> comparison.getScope().equals(BaselineStore.SCOPE_CONDITION))
+                .filter(comparison -> comparison.getName().equals(CONDITION.getMetricName()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
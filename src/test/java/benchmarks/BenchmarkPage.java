@@ -0,0 +1,63 @@
+package benchmarks;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import java.util.List;
+
+/**
+ * Page object shaped like HomePage, used by PageElementBindingBenchmark
+ */
+class BenchmarkPage {
+
+    @FindBy(css = "[data-heap-id='seo-global-nav-logo-desktop-click']")
+    WebElement logo;
+
+    @FindBy(css = "input[placeholder*='Search events'], input[placeholder*='Buscar eventos']")
+    WebElement searchField;
+
+    @FindBy(css = "button.searchButton, button[type='button']")
+    WebElement searchButton;
+
+    @FindBy(linkText = "Log In")
+    WebElement loginLink;
+
+    @FindBy(linkText = "Sign Up")
+    WebElement signUpLink;
+
+    @FindBy(linkText = "Iniciar sesión")
+    WebElement loginLinkSpanish;
+
+    @FindBy(linkText = "Registrarse")
+    WebElement signUpLinkSpanish;
+
+    @FindBy(css = "[data-testid='icon-category-browse']")
+    WebElement categories;
+
+    @FindBy(css = "[data-testid='category-card'], [href*='music']")
+    WebElement musicCategory;
+
+    @FindBy(css = "[data-testid='category-card'], [href*='business']")
+    WebElement businessCategory;
+
+    @FindBy(css = "[data-testid='category-card'], [href*='food']")
+    WebElement foodCategory;
+
+    @FindBy(css = "[data-testid='category-card'], [href*='nightlife']")
+    WebElement nightlifeCategory;
+
+    @FindBy(css = "input[placeholder*='location'], input[placeholder*='ubicación']")
+    WebElement locationSelector;
+
+    @FindBy(css = "button[data-testid='location-button'], .location-button")
+    WebElement locationButton;
+
+    @FindBy(css = ".featured-events, .popular-events")
+    WebElement featuredEvents;
+
+    @FindBy(xpath = "//div[@data-testid='search-event']//section[1]/a")
+    List<WebElement> eventCards;
+
+    @FindBy(xpath = "//div[@data-testid='search-event']//section[2]//p[text()='Free']")
+    List<WebElement> freeEventCards;
+}
@@ -0,0 +1,83 @@
+package benchmarks;
+
+import logging.Logging;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of getting the logger in Logging.log(), called dozens of times per wait:
+ * the previous LogManager.getLogger(getClass()) on every call vs the per-class cache.
+ * <p>
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Dbenchmark=benchmarks.LoggerLookupBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggerLookupBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 5, 16};
+
+    // Stand-ins for the framework classes logging during a wait
+    private final Logging[] components = {new Builder(), new Metrics(), new Manager(), new Page()};
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void logManagerLookup(Blackhole blackhole) {
+        for (Logging component : components) {
+            blackhole.consume(LogManager.getLogger(component.getClass()));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void cachedLookup(Blackhole blackhole) {
+        for (Logging component : components) {
+            blackhole.consume(component.log());
+        }
+    }
+
+    /**
+     * Same lookups with a disabled debug call, as most call sites do
+     */
+    @Benchmark
+    @OperationsPerInvocation(4)
+    public void cachedLookupAndDisabledDebug() {
+        for (Logging component : components) {
+            Logger log = component.log();
+            log.debug("Wait step on {}", component);
+        }
+    }
+
+    static class Builder implements Logging {
+    }
+
+    static class Metrics implements Logging {
+    }
+
+    static class Manager implements Logging {
+    }
+
+    static class Page implements Logging {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(LoggerLookupBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
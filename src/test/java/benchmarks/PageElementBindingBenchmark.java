@@ -0,0 +1,70 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.PageFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of initializing the @FindBy fields of a page object, paid every time a page is created:
+ * PageFactory.initElements (reflection and dynamic proxies) vs the binder generated at compile
+ * time by the locator processor. Neither locates elements, so no driver is needed.
+ * <p>
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Dbenchmark=benchmarks.PageElementBindingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageElementBindingBenchmark {
+
+    private static final int[] THREAD_COUNTS = {1, 5};
+
+    // Never called, elements are only located when used
+    private final SearchContext context = new SearchContext() {
+        @Override
+        public List<WebElement> findElements(By by) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            throw new UnsupportedOperationException();
+        }
+    };
+
+    @Benchmark
+    public BenchmarkPage pageFactory() {
+        BenchmarkPage page = new BenchmarkPage();
+        PageFactory.initElements(context, page);
+        return page;
+    }
+
+    @Benchmark
+    public BenchmarkPage generatedBinder() {
+        BenchmarkPage page = new BenchmarkPage();
+        BenchmarkPageLocators.bind(page, context);
+        return page;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(PageElementBindingBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .addProfiler("gc")
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
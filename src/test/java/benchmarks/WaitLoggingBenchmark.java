@@ -0,0 +1,112 @@
+package benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import waits.metrics.WaitCondition;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging cost of one wait on the test thread, with the log statements a wait runs through:
+ * <ul>
+ *     <li>debug lines with computed arguments, unguarded (as before) and guarded by isDebugEnabled</li>
+ *     <li>the same guarded lines plus one INFO line written to the log files, as page objects do
+ *     around their waits, with synchronous and async loggers</li>
+ * </ul>
+ * Debug is disabled, as in log4j2.xml. Runs with 5 threads, the suite's parallelism.
+ * <p>
+ * Logging INFO lines back to back would fill the async ring buffer, so that mode would measure the
+ * discard path instead of the enqueue. The INFO benchmark therefore paces each thread with some
+ * CPU work before every invocation, outside the measured time, keeping the event rate well below
+ * what the file appenders write, like waits that take milliseconds do.
+ * <p>
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Dbenchmark=benchmarks.WaitLoggingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(5)
+public class WaitLoggingBenchmark {
+
+    private static final Logger LOG = LogManager.getLogger(WaitLoggingBenchmark.class);
+
+    private final WaitCondition condition = WaitCondition.ELEMENT_TEXT;
+    private final String argument = "Eventos en Buenos Aires";
+    private final Duration timeout = Duration.ofSeconds(10);
+    private final Duration pollingInterval = Duration.ofMillis(500);
+    private final Duration waitDuration = Duration.ofMillis(120);
+
+    // CPU work between two INFO lines of a thread, a few hundred microseconds
+    private static final long PACING_TOKENS = 20_000;
+
+    /**
+     * Pause before each invocation, not included in the measured time
+     */
+    @State(Scope.Thread)
+    public static class Pacing {
+
+        @Setup(Level.Invocation)
+        public void pause() {
+            Blackhole.consumeCPU(PACING_TOKENS);
+        }
+    }
+
+    @Benchmark
+    public void unguardedDebug() {
+        LOG.debug("Timeout configured: {}s", timeout.getSeconds());
+        LOG.debug("Starting wait for: {} (timeout: {}ms, polling: {}ms)",
+                condition.describe(argument), timeout.toMillis(), pollingInterval.toMillis());
+        LOG.debug("Wait completed successfully for: {} (took: {}ms)",
+                condition.describe(argument), waitDuration.toMillis());
+        LOG.debug("Recorded successful wait: {} took {}ms", condition, waitDuration.toMillis());
+    }
+
+    @Benchmark
+    public void guardedDebug() {
+        logGuardedDebug();
+    }
+
+    @Benchmark
+    public void pacedGuardedDebugWithInfoLine(Pacing pacing) {
+        logGuardedDebug();
+        LOG.info("Page loaded successfully - Title: '{}', URL: '{}'", argument, "https://www.eventbrite.com.ar/");
+    }
+
+    private void logGuardedDebug() {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Timeout configured: {}s", timeout.getSeconds());
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Starting wait for: {} (timeout: {}ms, polling: {}ms)",
+                    condition.describe(argument), timeout.toMillis(), pollingInterval.toMillis());
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Wait completed successfully for: {} (took: {}ms)",
+                    condition.describe(argument), waitDuration.toMillis());
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Recorded successful wait: {} took {}ms", condition, waitDuration.toMillis());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (String async : new String[]{"false", "true"}) {
+            Options options = new OptionsBuilder()
+                    .include(WaitLoggingBenchmark.class.getSimpleName())
+                    .jvmArgsAppend("-Dlog4j2.*.Configuration.file=src/test/resources/benchmarks/log4j2-benchmark.xml",
+                            "-Dlogging.async=" + async)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
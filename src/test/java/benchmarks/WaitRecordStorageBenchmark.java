@@ -0,0 +1,102 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import waits.metrics.RecordRingBuffer;
+import waits.metrics.WaitCondition;
+import waits.metrics.WaitLabels;
+import waits.metrics.WaitMetrics.WaitRecord;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention benchmark for WaitRecord storage once the record limit is reached:
+ * the previous synchronized list trimmed with remove(0) vs the lock-free RecordRingBuffer.
+ * <p>
+ * Run with: mvn test-compile exec:exec -Pbenchmark -Dbenchmark=benchmarks.WaitRecordStorageBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WaitRecordStorageBenchmark {
+
+    private static final int MAX_RECORDS = 1000;
+    private static final int[] THREAD_COUNTS = {5, 16, 64};
+
+    private final WaitRecord record = new WaitRecord(Instant.now(), WaitCondition.ELEMENT_VISIBLE,
+            new WaitLabels("HomePage", null, null), Duration.ofMillis(120), true, null, "benchmark");
+
+    private List<WaitRecord> synchronizedList;
+    private RecordRingBuffer<WaitRecord> ringBuffer;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        synchronizedList = Collections.synchronizedList(new ArrayList<>());
+        ringBuffer = new RecordRingBuffer<>(MAX_RECORDS);
+
+        // Start full, the steady state of a long suite
+        for (int i = 0; i < MAX_RECORDS; i++) {
+            synchronizedList.add(record);
+            ringBuffer.add(record);
+        }
+    }
+
+    @Benchmark
+    public void synchronizedListAdd() {
+        synchronizedList.add(record);
+        if (synchronizedList.size() > MAX_RECORDS) {
+            int excessRecords = synchronizedList.size() - MAX_RECORDS;
+            for (int i = 0; i < excessRecords; i++) {
+                synchronizedList.remove(0);
+            }
+        }
+    }
+
+    @Benchmark
+    public void ringBufferAdd() {
+        ringBuffer.add(record);
+    }
+
+    /**
+     * Reader taking snapshots while the other threads of the group keep writing
+     */
+    @Benchmark
+    @Group("ringBufferReadWhileWriting")
+    @GroupThreads(1)
+    public List<WaitRecord> ringBufferSnapshot() {
+        return ringBuffer.snapshot();
+    }
+
+    @Benchmark
+    @Group("ringBufferReadWhileWriting")
+    @GroupThreads(4)
+    public void ringBufferWriter() {
+        ringBuffer.add(record);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(WaitRecordStorageBenchmark.class.getSimpleName() + "\\.(synchronizedListAdd|ringBufferAdd)")
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+
+        Options readWhileWriting = new OptionsBuilder()
+                .include(WaitRecordStorageBenchmark.class.getSimpleName() + "\\.ringBufferReadWhileWriting")
+                .build();
+        new Runner(readWhileWriting).run();
+    }
+}
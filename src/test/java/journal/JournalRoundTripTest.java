@@ -0,0 +1,124 @@
+package journal;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import waits.metrics.WaitCondition;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import static journal.JournalFormat.*;
+
+/**
+ * Writes journals with RecordJournal and reads them back with JournalReader
+ */
+public class JournalRoundTripTest {
+
+    private Path file;
+
+    @BeforeMethod
+    public void createFile() throws IOException {
+        file = Files.createTempDirectory("journal").resolve("journal.bin");
+    }
+
+    @Test(description = "Waits and commands are read back with their condition, command, outcome and test")
+    public void recordsRoundTrip() throws IOException {
+        RecordJournal journal = new RecordJournal(file, 1, 8);
+        journal.setCurrentTest("searchFreeEvents");
+        journal.recordWait(WaitCondition.ELEMENT_VISIBLE, 1_000, true);
+        journal.recordCommand("findElement", 2_000, false);
+        journal.setCurrentTest(null);
+        journal.recordWait(WaitCondition.PAGE_ALERT, 3_000, false);
+        journal.close();
+
+        List<JournalRecord> records = JournalReader.read(file).getRecords();
+
+        Assert.assertEquals(records.size(), 3);
+        assertRecord(records.get(0), WaitCondition.ELEMENT_VISIBLE, null, 1_000, true, "searchFreeEvents");
+        assertRecord(records.get(1), null, "findElement", 2_000, false, "searchFreeEvents");
+        assertRecord(records.get(2), WaitCondition.PAGE_ALERT, null, 3_000, false, null);
+    }
+
+    @Test(description = "Records of a full region are dropped and counted")
+    public void droppedRecordsAreCounted() throws IOException {
+        RecordJournal journal = new RecordJournal(file, 1, 2);
+        for (int i = 0; i < 5; i++) {
+            journal.recordCommand("click", 1_000, true);
+        }
+        journal.close();
+
+        JournalReader reader = JournalReader.read(file);
+
+        Assert.assertEquals(reader.getRecords().size(), 2);
+        Assert.assertEquals(reader.getDroppedCount(), 3);
+    }
+
+    @Test(description = "A record whose timestamp was never written, e.g. on a crash, is skipped")
+    public void tornRecordIsSkipped() throws IOException {
+        RecordJournal journal = new RecordJournal(file, 1, 4);
+        journal.recordCommand("get", 1_000, true);
+        journal.recordCommand("click", 2_000, true);
+        journal.recordCommand("quit", 3_000, true);
+        journal.close();
+        writeLong(slotOffset(1) + TIMESTAMP_OFFSET, 0);
+
+        List<JournalRecord> records = JournalReader.read(file).getRecords();
+
+        Assert.assertEquals(records.stream().map(JournalRecord::getCommand).toList(), List.of("get", "quit"));
+    }
+
+    @Test(description = "A wait stored under a name that is not a condition is skipped, not misread")
+    public void unknownConditionIsSkipped() throws IOException {
+        RecordJournal journal = new RecordJournal(file, 1, 4);
+        journal.recordCommand("notACondition", 1_000, true); // Name ID 1
+        journal.recordWait(WaitCondition.PAGE_LOAD, 2_000, true);
+        journal.close();
+        writeInt(slotOffset(0) + TYPE_OFFSET, packType(KIND_WAIT, OUTCOME_SUCCESS, 1));
+
+        List<JournalRecord> records = JournalReader.read(file).getRecords();
+
+        Assert.assertEquals(records.size(), 1);
+        Assert.assertEquals(records.get(0).getCondition(), WaitCondition.PAGE_LOAD);
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static void assertRecord(JournalRecord record, WaitCondition condition, String command, long durationNanos,
+                                     boolean successful, String testName) {
+        Assert.assertEquals(record.getCondition(), condition, record.toString());
+        Assert.assertEquals(record.getCommand(), command, record.toString());
+        Assert.assertEquals(record.getDuration(), Duration.ofNanos(durationNanos), record.toString());
+        Assert.assertEquals(record.isSuccessful(), successful, record.toString());
+        Assert.assertEquals(record.getTestName(), testName, record.toString());
+        Assert.assertEquals(record.getThreadId(), Thread.currentThread().getId(), record.toString());
+    }
+
+    /**
+     * Offset of a slot of the first region
+     */
+    private static int slotOffset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    private void writeLong(int offset, long value) throws IOException {
+        write(offset, ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, value));
+    }
+
+    private void writeInt(int offset, int value) throws IOException {
+        write(offset, ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, value));
+    }
+
+    private void write(int offset, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(bytes, offset);
+        }
+    }
+}
@@ -3,24 +3,23 @@ package pages.mobile;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 public class AppSectionPage extends MobileBasePage {
 
     @FindBy(xpath = "//*[contains(@text,'App')]")
-    private WebElement appsTitle;
+    WebElement appsTitle;
 
     @FindBy(xpath = "//android.widget.ImageButton[@content-desc='Navigate up']")
-    private WebElement backButton;
+    WebElement backButton;
 
     // Alternative back button
     @FindBy(id = "android:id/home")
-    private WebElement homeButton;
+    WebElement homeButton;
 
     public AppSectionPage(WebDriver driver){
         super(driver);
 
-        PageFactory.initElements(driver, this);
+        initElements(AppSectionPageLocators.BINDER);
 
         log().info("App section page initialized");
     }
@@ -28,7 +27,7 @@ public class AppSectionPage extends MobileBasePage {
     public AppSectionPage verifyAppSectionLoaded(){
         log().info("Verifying complete load of Apps Page");
 
-        waitFor(appsTitle).toBeVisible().withTimeout(5);
+        waitFor(appsTitle).withTimeout(5).toBeVisible();
 
         return this;
     }
@@ -1,8 +1,11 @@
 package pages.mobile;
 
+import locators.ElementBinder;
 import logging.Logging;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import tracing.Span;
+import tracing.Tracing;
 import waits.builders.ElementWaitBuilder;
 import waits.core.WaitManager;
 
@@ -11,28 +14,48 @@ public abstract class MobileBasePage implements Logging {
     protected WebDriver driver;
     protected WaitManager waitManager;
 
+    @SuppressWarnings("try")
     public MobileBasePage(WebDriver driver){
         if(driver == null){
             throw new IllegalArgumentException("WebDriver cannot be null");
         }
 
-        this.driver = driver;
-        this.waitManager = WaitManager.getInstance(driver);
+        try (Span span = Tracing.span("page", getClass().getSimpleName() + ".<init>")) {
+            this.driver = driver;
+            this.waitManager = WaitManager.getInstance(driver);
 
-        log().info("BasePage initialized for driver: {} ",
-                driver.getClass().getSimpleName());
+            log().info("BasePage initialized for driver: {} ",
+                    driver.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Initialize the @FindBy fields of this page through the binder generated at compile time,
+     * e.g. initElements(HomePageLocators.BINDER). The fields must not be private.
+     *
+     * @throws IllegalArgumentException if the binder belongs to another page
+     */
+    @SuppressWarnings("try")
+    protected void initElements(ElementBinder<? extends MobileBasePage> binder) {
+        try (Span span = Tracing.span("page", "initElements").arg("page", getClass().getSimpleName())) {
+            binder.bind(this, driver);
+        }
     }
 
     protected void clickNavigationElement(WebElement mobileElement){
-        waitFor(mobileElement).toBeVisible().
-                toBeClickable().withTimeout(5);
+        waitFor(mobileElement).withTimeout(5).
+                toBeVisible().toBeClickable();
 
         mobileElement.click();
     }
 
     protected WebDriver getDriver(){ return driver; }
 
+    protected String getTextOf(WebElement element) {
+        return waitManager.getElementState().getText(element);
+    }
+
     protected ElementWaitBuilder waitFor(WebElement element) {
-        return waitManager.waitFor(element);
+        return waitManager.waitFor(element).onPage(getClass().getSimpleName());
     }
 }
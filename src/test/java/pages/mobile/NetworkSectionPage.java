@@ -3,26 +3,25 @@ package pages.mobile;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 public class NetworkSectionPage extends MobileBasePage{
 
     @FindBy(xpath = "//android.widget.FrameLayout[@content-desc='Network & internet']")
-    private WebElement networkTitle;
+    WebElement networkTitle;
 
     @FindBy(xpath = "//android.widget.ImageButton[@content-desc='Navigate up']")
-    private WebElement backButton;
+    WebElement backButton;
 
     @FindBy(xpath = "//androidx.recyclerview.widget.RecyclerView[@resource-id='com.android.settings:id/recycler_view']/android.widget.LinearLayout[1]/android.widget.RelativeLayout")
-    private WebElement wifiSection;
+    WebElement wifiSection;
 
     @FindBy(xpath = "//android.widget.TextView[contains(@text,'Mobile')]")
-    private WebElement mobileDataSection;
+    WebElement mobileDataSection;
 
     public NetworkSectionPage(WebDriver driver){
         super(driver);
 
-        PageFactory.initElements(driver, this);
+        initElements(NetworkSectionPageLocators.BINDER);
 
         log().info("Network section page initialized");
     }
@@ -30,8 +29,8 @@ public class NetworkSectionPage extends MobileBasePage{
     public NetworkSectionPage verifyNetworkSectionLoaded(){
         log().info("Verifying complete load of Network Page");
 
-        waitFor(networkTitle).toBeVisible().withTimeout(5);
-        waitFor(wifiSection).toBeVisible().withTimeout(5);
+        waitFor(networkTitle).withTimeout(5).toBeVisible();
+        waitFor(wifiSection).withTimeout(5).toBeVisible();
 
         return this;
     }
@@ -48,7 +47,7 @@ public class NetworkSectionPage extends MobileBasePage{
         log().info("Verifying if Wifi is available");
 
         try {
-            return waitFor(wifiSection).toBeVisible().withTimeout(5) != null;
+            return waitFor(wifiSection).withTimeout(5).toBeVisible() != null;
         } catch (Exception e) {
             log().warn("Wifi is not visible");
             return false;
@@ -59,7 +58,7 @@ public class NetworkSectionPage extends MobileBasePage{
         log().info("Verifying if Mobile Data is available");
 
         try{
-            return waitFor(mobileDataSection).toBeVisible().withTimeout(5) != null;
+            return waitFor(mobileDataSection).withTimeout(5).toBeVisible() != null;
         } catch (Exception e) {
             log().warn("Mobile Data is nos visible");
             return false;
@@ -3,23 +3,22 @@ package pages.mobile;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 public class SettingsPage extends MobileBasePage{
 
     @FindBy(id = "android:id/title")
-    private WebElement settingsTitle;
+    WebElement settingsTitle;
 
     @FindBy(xpath = "//android.widget.TextView[@text='Network & internet']")
-    private WebElement networkSection;
+    WebElement networkSection;
 
     @FindBy(xpath = "//android.widget.TextView[@text='Apps']")
-    private WebElement appsSection;
+    WebElement appsSection;
 
     public SettingsPage(WebDriver driver){
         super(driver);
 
-        PageFactory.initElements(driver, this);
+        initElements(SettingsPageLocators.BINDER);
         log().info("SettingPage initialized");
     }
 
@@ -28,13 +27,8 @@ public class SettingsPage extends MobileBasePage{
 
         log().debug("Starting page load verification...");
 
-        try {
-            Thread.sleep(100); // Small pause for page stabilization
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-
-        waitFor(settingsTitle).toBeVisible().withTimeout(10);
+        // Wait for the screen to stop moving instead of a fixed pause
+        waitFor(settingsTitle).withTimeout(10).toSettle().toBeVisible();
         log().info("Settings elements verified successfully");
         return this;
     }
@@ -42,7 +36,7 @@ public class SettingsPage extends MobileBasePage{
     public AppSectionPage navigateToAppsSection(){
         log().info("Navigating to App section");
 
-        waitFor(appsSection).toBeClickable().withTimeout(5);
+        waitFor(appsSection).withTimeout(5).toBeClickable();
         appsSection.click();
 
         return new AppSectionPage(getDriver());
@@ -51,7 +45,7 @@ public class SettingsPage extends MobileBasePage{
     public NetworkSectionPage navigateToNetworkSection(){
         log().info("Navigating to Network section");
 
-        waitFor(networkSection).toBeClickable().withTimeout(5);
+        waitFor(networkSection).withTimeout(5).toBeClickable();
         networkSection.click();
 
         return new NetworkSectionPage(getDriver());
@@ -60,15 +54,15 @@ public class SettingsPage extends MobileBasePage{
     public String getSettingsTitle(){
         log().info("Getting Settings page title");
 
-        waitFor(settingsTitle).toBeVisible().withTimeout(5);
-        return settingsTitle.getText();
+        waitFor(settingsTitle).withTimeout(5).toBeVisible();
+        return getTextOf(settingsTitle);
     }
 
     public boolean isNetworkSectionVisible(){
         log().info("Verifying if Network section is available");
 
         try {
-            return waitFor(networkSection).toBeVisible().withTimeout(5) != null;
+            return waitFor(networkSection).withTimeout(5).toBeVisible() != null;
         } catch (Exception e) {
             log().warn("Network section is not visible");
             return false;
@@ -1,13 +1,24 @@
 package pages.web;
 
+import events.PageVerificationEvent;
+import logging.Diagnostics;
+import locators.ElementBinder;
+import locators.ElementExtractor;
+import locators.ElementRow;
+import locators.FieldSpec;
 import logging.Logging;
+import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import tracing.Span;
+import tracing.Tracing;
 import waits.builders.ElementWaitBuilder;
 import waits.builders.PageWaitBuilder;
 import waits.core.WaitManager;
 
+import java.util.List;
+
 /**
  * Base class for all Page Objects in the framework.
  * Provides common functionality and integrates the wait system.
@@ -22,25 +33,86 @@ public abstract class BasePage implements Logging {
      *
      * @param driver WebDriver instance to use for waits and pages
      */
+    @SuppressWarnings("try")
     public BasePage(WebDriver driver) {
         if (driver == null) {
             throw new IllegalArgumentException("WebDriver cannot be null");
         }
 
-        this.driver = driver;
-        this.wait = WaitManager.getInstance(driver);
+        try (Span span = Tracing.span("page", getClass().getSimpleName() + ".<init>")) {
+            this.driver = driver;
+            this.wait = WaitManager.getInstance(driver);
 
-        log().info("BasePage initialized for driver: {} - Current URL: {}",
-                driver.getClass().getSimpleName(),
-                getCurrentUrlSafely());
+            log().info("BasePage initialized for driver: {}", driver.getClass().getSimpleName());
+            log().debug("Current URL: {}", Diagnostics.currentUrl(driver));
+        }
+    }
+
+    /**
+     * Initialize the @FindBy fields of this page through the binder generated at compile time,
+     * e.g. initElements(HomePageLocators.BINDER). The fields must not be private.
+     *
+     * @throws IllegalArgumentException if the binder belongs to another page
+     */
+    @SuppressWarnings("try")
+    protected void initElements(ElementBinder<? extends BasePage> binder) {
+        try (Span span = Tracing.span("page", "initElements").arg("page", getClass().getSimpleName())) {
+            binder.bind(this, driver);
+        }
     }
 
     protected ElementWaitBuilder waitFor(WebElement element) {
-        return wait.waitFor(element);
+        return wait.waitFor(element).onPage(getClass().getSimpleName());
     }
 
     protected PageWaitBuilder waitForPage() {
-        return wait.waitForPage();
+        return wait.waitForPage().onPage(getClass().getSimpleName());
+    }
+
+    /**
+     * Run independent waits concurrently, failing as soon as one of them fails
+     *
+     * @param waits independent wait plans, e.g. () -> waitFor(logo).toBeVisible()
+     */
+    protected void waitInParallel(Runnable... waits) {
+        wait.parallel(waits);
+    }
+
+    /**
+     * Read the text of an element, reusing the value a wait just fetched when possible
+     *
+     * @param element WebElement to read
+     * @return visible text of the element
+     */
+    protected String getTextOf(WebElement element) {
+        return wait.getElementState().getText(element);
+    }
+
+    /**
+     * Check if an element is displayed, reusing the value a wait just fetched when possible
+     *
+     * @param element WebElement to check
+     * @return true if the element is displayed
+     */
+    protected boolean isDisplayed(WebElement element) {
+        return wait.getElementState().isDisplayed(element);
+    }
+
+    /**
+     * Read values from every element matched by a locator in one script call, instead of one
+     * round-trip per element, e.g. extractAll(SearchResultsPageLocators.EVENT_CARDS, FieldSpec.text())
+     *
+     * @param locator Locator of the elements, usually a constant of the generated Locators class
+     * @param fields Values to read from each element, none to just count them
+     * @return one row per element, in document order
+     */
+    @SuppressWarnings("try")
+    protected List<ElementRow> extractAll(By locator, FieldSpec... fields) {
+        try (Span span = Tracing.span("page", "extractAll").arg("locator", locator.toString())) {
+            List<ElementRow> rows = ElementExtractor.extract(driver, locator, fields);
+            log().debug("Extracted {} rows from {}", rows.size(), locator);
+            return rows;
+        }
     }
 
     protected String getCurrentUrl() {
@@ -53,22 +125,28 @@ public abstract class BasePage implements Logging {
 
         return title;
     }
+    @SuppressWarnings("try")
     protected void navigateTo(String url) {
-        String currentUrl = getCurrentUrlSafely();
-        log().info("Navigating from '{}' to '{}' ", currentUrl, url);
+        log().info("Navigating to '{}'", url);
+        log().debug("Leaving '{}'", Diagnostics.currentUrl(driver));
 
         long startTime = System.currentTimeMillis();
-        driver.navigate().to(url);
+        try (Span span = Tracing.span("navigation", "navigateTo").arg("url", url)) {
+            driver.navigate().to(url);
+        }
         long navigationTime = System.currentTimeMillis() - startTime;
 
-        log().info("Navigation completed in {}ms - New URL: '{}'",
-                navigationTime, getCurrentUrlSafely());
+        log().info("Navigation completed in {}ms", navigationTime);
+        log().debug("New URL: '{}'", Diagnostics.currentUrl(driver));
     }
 
+    @SuppressWarnings("try")
     protected void refreshPage(){
         log().debug("Refreshing the current page...");
 
-        driver.navigate().refresh();
+        try (Span span = Tracing.span("navigation", "refresh")) {
+            driver.navigate().refresh();
+        }
     }
 
     protected WebDriver getDriver() {
@@ -78,8 +156,10 @@ public abstract class BasePage implements Logging {
     public void verifyPageLoaded() {
         log().debug("Starting page load verification...");
 
+        PageVerificationEvent event = new PageVerificationEvent();
+        event.begin();
         try{
-            wait.waitForPage().toLoad().withTimeout(30);
+            waitForPage().withTimeout(30).toLoad();
 
             String title = getPageTitle();
             String url = getCurrentUrl();
@@ -94,8 +174,10 @@ public abstract class BasePage implements Logging {
             }
 
             log().info("Page loaded successfully - Title: '{}', URL: '{}'", title, url);
+            event.complete(getClass().getSimpleName(), url, true);
         }
         catch (Exception e){
+            event.complete(getClass().getSimpleName(), null, false);
             log().error("Page load verification failed: {}", e.getMessage());
             throw new RuntimeException("Failed to verify page load: " + e.getMessage(), e);
         }
@@ -146,24 +228,12 @@ public abstract class BasePage implements Logging {
         }
     }
 
-    private String getCurrentUrlSafely() {
-        try {
-            return driver.getCurrentUrl();
-        } catch (Exception e) {
-            log().warn("Could not retrieve current URL: {}", e.getMessage());
-            return "URL not available";
-        }
-    }
-
     protected void scrollToElement(WebElement element){
         JavascriptExecutor js = (JavascriptExecutor) driver;
         js.executeScript("arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", element);
 
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        // Returns as soon as the smooth scroll stops moving the element
+        waitFor(element).withTimeout(5).toBeScrolledIntoView();
     }
 
     protected void removeTargetBlank (WebElement element){
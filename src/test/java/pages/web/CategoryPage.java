@@ -3,18 +3,17 @@ package pages.web;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 public class CategoryPage extends BasePage{
     @FindBy(css = ".category-browse--header")
-    private WebElement categoryHeader;
+    WebElement categoryHeader;
 
     @FindBy(css = "[data-testid='breadcrumb-final-element']")
-    private WebElement finalCategoryBreadCrumb;
+    WebElement finalCategoryBreadCrumb;
 
     public CategoryPage(WebDriver driver){
         super(driver);
-        PageFactory.initElements(driver,this);
+        initElements(CategoryPageLocators.BINDER);
 
         log().info("CategoryPage initialized");
     }
@@ -23,7 +22,7 @@ public class CategoryPage extends BasePage{
         log().info("Verifying that the Category Page is displayed correctly");
 
         verifyPageLoaded();
-        waitFor(categoryHeader).toBeVisible().withTimeout(15);
+        waitFor(categoryHeader).withTimeout(15).toBeVisible();
 
         log().info("Category page verified successfully");
         return this;
@@ -32,9 +31,9 @@ public class CategoryPage extends BasePage{
     public boolean verifyCategoryName(String categoryName){
         log().info("Verifying that if the Category Name matches the selected one");
 
-        verifyCategoryPageDisplayed().waitFor(finalCategoryBreadCrumb).toBeVisible().withTimeout(5);
+        verifyCategoryPageDisplayed().waitFor(finalCategoryBreadCrumb).withTimeout(5).toBeVisible();
 
-        String categoryBreadCrumbText = finalCategoryBreadCrumb.getText();
+        String categoryBreadCrumbText = getTextOf(finalCategoryBreadCrumb);
 
         if(categoryBreadCrumbText.contains(categoryName)){
             log().info("The category selected {} matches with the category name in the breadcrumb", categoryName);
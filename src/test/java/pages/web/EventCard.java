@@ -0,0 +1,30 @@
+package pages.web;
+
+import locators.ElementRow;
+import locators.FieldSpec;
+
+/**
+ * One event card of the search results, read with all the other cards of its page in one script call
+ *
+ * @param page Results page the card was found on, starting at 1
+ * @param position Position of the card on its page, starting at 0
+ * @param title Event title shown in the card link
+ * @param url Absolute URL of the event detail page
+ * @param details Date, location and price lines below the title
+ */
+public record EventCard(int page, int position, String title, String url, String details) {
+
+    // Same elements as the //section[1]/a and //section[2] XPaths of SearchResultsPage, inside the card
+    static final FieldSpec TITLE = FieldSpec.text().within(":scope section:first-of-type > a");
+    static final FieldSpec URL = FieldSpec.href().within(":scope section:first-of-type > a");
+    static final FieldSpec DETAILS = FieldSpec.text().within(":scope section:nth-of-type(2)");
+
+    static EventCard fromRow(int page, ElementRow row) {
+        String details = row.string(DETAILS);
+        return new EventCard(page, row.index(), row.string(TITLE), row.string(URL), details != null ? details : "");
+    }
+
+    public boolean isFree() {
+        return details.contains("Free") || details.contains("Gratis");
+    }
+}
@@ -3,34 +3,33 @@ package pages.web;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 public class EventDetailPage extends BasePage{
     @FindBy(css = "h1.event-title")
-    private WebElement eventTitleElement;
+    WebElement eventTitleElement;
 
     @FindBy(css = "[data-spec='eds-modal-body']")
-    private WebElement ticketsModal;
+    WebElement ticketsModal;
 
     @FindBy(css = "[data-testid='checkout-link']")
-    private WebElement priceButton;
+    WebElement priceButton;
 
     @FindBy(css = "[data-testid='ticket-price__price']")
-    private WebElement priceValueTextModal;
+    WebElement priceValueTextModal;
 
     @FindBy(css = "[data-testid='summary']")
-    private WebElement summaryEvent;
+    WebElement summaryEvent;
 
     public EventDetailPage(WebDriver driver){
         super(driver);
-        PageFactory.initElements(driver, this);
+        initElements(EventDetailPageLocators.BINDER);
 
         log().info("EventDetailPage initialized");
     }
 
     public EventDetailPage verifyEventDetailPageDisplayed(){
         verifyPageLoaded();
-        waitFor(eventTitleElement).toBeVisible().withTimeout(10);
+        waitFor(eventTitleElement).withTimeout(10).toBeVisible();
 
         log().info("Event Detail page verified successfully");
         return this;
@@ -44,8 +43,8 @@ public class EventDetailPage extends BasePage{
     public String getEventSummary(){
         log().info("Getting the event's summary");
 
-        waitFor(summaryEvent).toBeVisible().withTimeout(5);
-        return summaryEvent.getText();
+        waitFor(summaryEvent).withTimeout(5).toBeVisible();
+        return getTextOf(summaryEvent);
     }
 
     /**
@@ -56,8 +55,8 @@ public class EventDetailPage extends BasePage{
     public boolean isTicketAvailable(){
         log().info("Checking if there is any ticket available");
 
-        waitFor(priceButton).toBeClickable().withTimeout(5);
-        return priceButton.isDisplayed();
+        waitFor(priceButton).withTimeout(5).toBeClickable();
+        return isDisplayed(priceButton);
     }
 
     /**
@@ -77,11 +76,13 @@ public class EventDetailPage extends BasePage{
             }
 
             log().info("Checking if modal is opened");
-            waitFor(ticketsModal).toBeVisible().withTimeout(10);
+            waitInParallel(
+                    () -> waitFor(ticketsModal).withTimeout(10).toBeVisible(),
+                    () -> waitFor(priceValueTextModal).withTimeout(10).toBeVisible()
+            );
 
-            waitFor(priceValueTextModal).toBeVisible().withTimeout(5);
             log().info("Event price found");
-            return priceValueTextModal.getText();
+            return getTextOf(priceValueTextModal);
         } catch (Exception e) {
             log().debug("No ticket available for this event. Error: {}", e.getMessage());
             return "Error trying to get the event price";
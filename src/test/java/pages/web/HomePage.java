@@ -1,10 +1,10 @@
 package pages.web;
 
+import locators.FindVariants;
 import org.openqa.selenium.Keys;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 /**
  * HomePage for Eventbrite - Main page with navigation and search functionality
@@ -20,59 +20,72 @@ public class HomePage extends BasePage {
     // ========== HEADER NAVIGATION ELEMENTS ========== //
 
     @FindBy(css = "[data-heap-id='seo-global-nav-logo-desktop-click']")
-    private WebElement eventbriteLogo;
+    WebElement eventbriteLogo;
 
-    @FindBy(css = "input[placeholder*='Search events'], input[placeholder*='Buscar eventos']")
-    private WebElement searchEventsField;
+    @FindVariants({
+            @FindBy(css = "input[placeholder*='Search events']"),
+            @FindBy(css = "input[placeholder*='Buscar eventos']")
+    })
+    WebElement searchEventsField;
 
     @FindBy(css = "button.searchButton, button[type='button']")
-    private WebElement searchButton;
+    WebElement searchButton;
 
-    @FindBy(linkText = "Log In")
-    private WebElement loginLink;
+    // English and Spanish versions, the variant of the current site is remembered for the session
+    @FindVariants({@FindBy(linkText = "Log In"), @FindBy(linkText = "Iniciar sesión")})
+    WebElement loginLink;
 
-    @FindBy(linkText = "Sign Up")
-    private WebElement signUpLink;
-
-    // Alternative selectors for Spanish version
-    @FindBy(linkText = "Iniciar sesión")
-    private WebElement loginLinkSpanish;
-
-    @FindBy(linkText = "Registrarse")
-    private WebElement signUpLinkSpanish;
+    @FindVariants({@FindBy(linkText = "Sign Up"), @FindBy(linkText = "Registrarse")})
+    WebElement signUpLink;
 
     // ========== MAIN CONTENT ELEMENTS ==========
 
     @FindBy(css = "[data-testid='icon-category-browse']")
-    private WebElement mainEventbriteCategories;
-
-    @FindBy(css = "[data-testid='category-card'], [href*='music']")
-    private WebElement musicCategory;
-
-    @FindBy(css = "[data-testid='category-card'], [href*='business']")
-    private WebElement businessCategory;
-
-    @FindBy(css = "[data-testid='category-card'], [href*='food']")
-    private WebElement foodCategory;
-
-    @FindBy(css = "[data-testid='category-card'], [href*='nightlife']")
-    private WebElement nightlifeCategory;
+    WebElement mainEventbriteCategories;
+
+    @FindVariants({
+            @FindBy(css = "[data-testid='category-card'][href*='music']"),
+            @FindBy(css = "[href*='music']")
+    })
+    WebElement musicCategory;
+
+    @FindVariants({
+            @FindBy(css = "[data-testid='category-card'][href*='business']"),
+            @FindBy(css = "[href*='business']")
+    })
+    WebElement businessCategory;
+
+    @FindVariants({
+            @FindBy(css = "[data-testid='category-card'][href*='food']"),
+            @FindBy(css = "[href*='food']")
+    })
+    WebElement foodCategory;
+
+    @FindVariants({
+            @FindBy(css = "[data-testid='category-card'][href*='nightlife']"),
+            @FindBy(css = "[href*='nightlife']")
+    })
+    WebElement nightlifeCategory;
 
     // ========== LOCATION ELEMENTS ==========
 
-    @FindBy(css = "input[placeholder*='location'], input[placeholder*='ubicación'], input[placeholder*='Ashburn']")
-    private WebElement locationSelector;
+    @FindVariants({
+            @FindBy(css = "input[placeholder*='location']"),
+            @FindBy(css = "input[placeholder*='ubicación']"),
+            @FindBy(css = "input[placeholder*='Ashburn']")
+    })
+    WebElement locationSelector;
 
     @FindBy(css = "button[data-testid='location-button'], .location-button")
-    private WebElement locationButton;
+    WebElement locationButton;
 
     // ========== ADDITIONAL CONTENT ELEMENTS ==========
 
     @FindBy(css = "[data-testid='icon-category-browse'], .iconCategoryBrowse")
-    private WebElement categoriesSection;
+    WebElement categoriesSection;
 
     @FindBy(css = ".featured-events, .popular-events")
-    private WebElement featuredEventsSection;
+    WebElement featuredEventsSection;
 
     /**
      * Constructor that initializes the page and its elements
@@ -81,7 +94,7 @@ public class HomePage extends BasePage {
      */
     public HomePage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        initElements(HomePageLocators.BINDER);
 
         log().info("HomePage initialized for Eventbrite");
     }
@@ -100,10 +113,12 @@ public class HomePage extends BasePage {
         // Verify basic page load using inherited method
         verifyPageLoaded();
 
-        // Verify specific main page elements
-        waitFor(eventbriteLogo).toBeVisible().withTimeout(10);
-        waitFor(searchEventsField).toBeVisible().withTimeout(10);
-        waitFor(mainEventbriteCategories).toBeVisible().withTimeout(15);
+        // Verify specific main page elements - they are independent, so wait for them concurrently
+        waitInParallel(
+                () -> waitFor(eventbriteLogo).withTimeout(10).toBeVisible(),
+                () -> waitFor(searchEventsField).withTimeout(10).toBeVisible(),
+                () -> waitFor(mainEventbriteCategories).withTimeout(15).toBeVisible()
+        );
 
         log().info("Eventbrite main page loaded and verified successfully");
         return this;
@@ -117,9 +132,11 @@ public class HomePage extends BasePage {
     public HomePage verifyNavigationElementsPresent() {
         log().debug("Verifying presence of main navigation elements");
 
-        waitFor(searchEventsField).toBeVisible().withTimeout(10);
-        waitFor(getActiveLoginLink()).toBeVisible().withTimeout(10);
-        waitFor(categoriesSection).toBeVisible().withTimeout(15);
+        waitInParallel(
+                () -> waitFor(searchEventsField).withTimeout(10).toBeVisible(),
+                () -> waitFor(loginLink).withTimeout(10).toBeVisible(),
+                () -> waitFor(categoriesSection).withTimeout(15).toBeVisible()
+        );
 
         log().info("All main navigation elements verified successfully");
         return this;
@@ -136,7 +153,7 @@ public class HomePage extends BasePage {
     public SearchResultsPage searchForEvents(String searchTerm) {
         log().info("Starting event search with term: {}", searchTerm);
 
-        waitFor(searchEventsField).toBeClickable().withTimeout(10);
+        waitFor(searchEventsField).withTimeout(10).toBeClickable();
         searchEventsField.clear();
         searchEventsField.click();
 
@@ -157,7 +174,7 @@ public class HomePage extends BasePage {
     public SearchResultsPage searchForEventsWithLocation(String searchTerm, String location) {
         log().info("Starting advanced search - Term: {}, Location: {}", searchTerm, location);
 
-        waitFor(locationSelector).toBeClickable().withTimeout(10);
+        waitFor(locationSelector).withTimeout(10).toBeClickable();
         locationSelector.click();
 
         log().debug("Typing location term: {}", location);
@@ -176,9 +193,7 @@ public class HomePage extends BasePage {
     public LoginPage navigateToLogin() {
         log().info("Navigating to login page");
 
-        WebElement finalLogIn = getActiveLoginLink();
-
-        waitFor(finalLogIn).toBeClickable().withTimeout(5);
+        waitFor(loginLink).withTimeout(5).toBeClickable();
         loginLink.click();
 
         return new LoginPage(getDriver());
@@ -192,10 +207,8 @@ public class HomePage extends BasePage {
     public SignUpPage navigateToSignUp() {
         log().info("Navigating to sign-up page");
 
-        WebElement finalSignUp = getActiveSignUpLink();
-
-        waitFor(finalSignUp).toBeClickable().withTimeout(5);
-        finalSignUp.click();
+        waitFor(signUpLink).withTimeout(5).toBeClickable();
+        signUpLink.click();
 
         return new SignUpPage(getDriver());
     }
@@ -220,7 +233,7 @@ public class HomePage extends BasePage {
             throw new IllegalStateException("Category validation succeeded but element is null: " + categoryName);
         }
 
-        waitFor(categoryElement).toBeClickable().withTimeout(5);
+        waitFor(categoryElement).withTimeout(5).toBeClickable();
         categoryElement.click();
 
         return new CategoryPage(getDriver());
@@ -228,40 +241,6 @@ public class HomePage extends BasePage {
 
     // ========== UTILITY METHODS ==========
 
-    /**
-     * Helper method to get the active login link (handles both English and Spanish)
-     *
-     * @return WebElement the login link that is currently visible
-     */
-    private WebElement getActiveLoginLink() {
-        try {
-            if (loginLink.isDisplayed()) {
-                return loginLink;
-            }
-        } catch (Exception e) {
-            log().debug("English login link not found, trying Spanish version");
-        }
-
-        return loginLinkSpanish;
-    }
-
-    /**
-     * Helper method to get the active sign up link (handles both English and Spanish)
-     *
-     * @return WebElement the sign-up link that is currently visible
-     */
-    private WebElement getActiveSignUpLink() {
-        try {
-            if (signUpLink.isDisplayed()) {
-                return signUpLink;
-            }
-        } catch (Exception e) {
-            log().debug("English sign up link not found, trying Spanish version");
-        }
-
-        return signUpLinkSpanish;
-    }
-
     /**
      * Checks if the page is currently displaying the main promotional content
      *
@@ -269,7 +248,7 @@ public class HomePage extends BasePage {
      */
     public boolean isMainContentVisible() {
         try {
-            return waitFor(mainEventbriteCategories).toBeVisible().withTimeout(5) != null;
+            return waitFor(mainEventbriteCategories).withTimeout(5).toBeVisible() != null;
         } catch (Exception e) {
             log().debug("Main content not visible: {}", e.getMessage());
             return false;
@@ -282,8 +261,8 @@ public class HomePage extends BasePage {
      * @return String the text content of the main hero title
      */
     public String getMainHeroText() {
-        waitFor(mainEventbriteCategories).toBeVisible().withTimeout(10);
-        String heroText = mainEventbriteCategories.getText();
+        waitFor(mainEventbriteCategories).withTimeout(10).toBeVisible();
+        String heroText = getTextOf(mainEventbriteCategories);
         log().debug("Retrieved hero text: {}", heroText);
         return heroText;
     }
@@ -303,7 +282,7 @@ public class HomePage extends BasePage {
         }
 
         try {
-            return waitFor(categoryElement).toBeVisible().withTimeout(5) != null;
+            return waitFor(categoryElement).withTimeout(5).toBeVisible() != null;
         } catch (Exception e) {
             log().debug("Category {} not available: {}", categoryName, e.getMessage());
             return false;
@@ -3,21 +3,20 @@ package pages.web;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 public class LoginPage extends BasePage{
     @FindBy(css = "input[type='email'], input[name='email']" )
-    private WebElement emailField;
+    WebElement emailField;
 
     public LoginPage(WebDriver driver){
         super(driver);
-        PageFactory.initElements(driver, this);
+        initElements(LoginPageLocators.BINDER);
         log().info("LoginPage initialized");
     }
 
     public LoginPage verifyLoginPageDisplayed(){
         verifyPageLoaded();
-        waitFor(emailField).toBeVisible().withTimeout(15);
+        waitFor(emailField).withTimeout(15).toBeVisible();
         log().info("Login page verified successfully");
         return this;
     }
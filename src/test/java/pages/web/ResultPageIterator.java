@@ -0,0 +1,167 @@
+package pages.web;
+
+import logging.Diagnostics;
+import logging.Logging;
+import org.apache.logging.log4j.ThreadContext;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Walks the search results page by page, handing out the event cards of one page at a time.
+ * <p>
+ * While the consumer processes a page, the next one is loaded and read on a background thread,
+ * so at most two pages of cards are held whatever the number of pages. The walk ends at the
+ * first page without cards, or when the site keeps showing the same page.
+ * <p>
+ * The driver belongs to the iterator until it is exhausted or closed, so use it in a
+ * try-with-resources block. Both wait for the page being prefetched and then take the browser
+ * back to the results page the walk started from.
+ */
+public final class ResultPageIterator implements Iterator<List<EventCard>>, AutoCloseable, Logging {
+
+    private final SearchResultsPage resultsPage;
+    private final String searchUrl;
+    private final Map<String, String> logContext;
+    private final ExecutorService prefetcher;
+
+    private Future<List<EventCard>> pending;
+    private List<EventCard> ready;
+    private String lastFirstUrl;
+    private int nextPage;
+    private boolean navigated;
+    private boolean closed;
+
+    /**
+     * @param resultsPage Results page the driver is on
+     * @param searchUrl URL of the search, other pages are reached through its page parameter
+     * @param firstPage Number of the page the driver is on
+     * @param firstCards Cards of that page, already read
+     */
+    ResultPageIterator(SearchResultsPage resultsPage, String searchUrl, int firstPage, List<EventCard> firstCards) {
+        this.resultsPage = resultsPage;
+        this.searchUrl = searchUrl;
+        this.logContext = ThreadContext.getImmutableContext();
+        this.prefetcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "results-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pending = CompletableFuture.completedFuture(firstCards);
+        this.nextPage = firstPage + 1;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (ready != null) {
+            return true;
+        }
+        if (pending == null) {
+            return false;
+        }
+
+        Future<List<EventCard>> page = pending;
+        pending = null;
+        List<EventCard> cards = await(page);
+        if (cards.isEmpty() || cards.get(0).url() != null && cards.get(0).url().equals(lastFirstUrl)) {
+            log().debug("No more search results on page {}", nextPage - 1);
+            close();
+            return false;
+        }
+
+        ready = cards;
+        return true;
+    }
+
+    @Override
+    public List<EventCard> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more search result pages");
+        }
+
+        List<EventCard> cards = ready;
+        ready = null;
+        lastFirstUrl = cards.get(0).url();
+
+        int page = nextPage++;
+        navigated = true;
+        pending = prefetcher.submit(Diagnostics.propagate(() -> {
+            ThreadContext.putAll(logContext);
+            try {
+                return resultsPage.readResultsPage(searchUrl, page);
+            } finally {
+                ThreadContext.clearMap();
+            }
+        }));
+        return cards;
+    }
+
+    /**
+     * Stop walking the pages: wait for the page being prefetched, then go back to the first page
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        if (pending != null) {
+            try {
+                pending.get();
+            } catch (ExecutionException e) {
+                log().debug("Prefetched results page failed after the walk stopped: {}", e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pending = null;
+        }
+        ready = null;
+        prefetcher.shutdown();
+
+        if (navigated) {
+            resultsPage.returnToResults(searchUrl);
+        }
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private List<EventCard> await(Future<List<EventCard>> page) {
+        try {
+            return page.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            closeAfterFailure(cause);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new WebDriverException("Could not read search results page", cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closeAfterFailure(e);
+            throw new WebDriverException("Interrupted while reading search results", e);
+        }
+    }
+
+    /**
+     * Close without hiding the failure that stopped the walk
+     */
+    private void closeAfterFailure(Throwable failure) {
+        try {
+            close();
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package pages.web;
 
+import locators.ElementRow;
+import locators.FieldSpec;
+import locators.FindVariants;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
 import java.util.*;
 
 /**
@@ -23,32 +26,38 @@ public class SearchResultsPage extends BasePage {
     // ========== MAIN RESULTS ELEMENTS ==========
 
     @FindBy(css = ".search-results-panel-content__events")
-    private WebElement resultsContainer;
+    WebElement resultsContainer;
+
+    @FindBy(xpath = "//div[@data-testid='search-event']")
+    List<WebElement> searchEvents;
 
     @FindBy(xpath = "//div[@data-testid='search-event']//section[1]/a")
-    private List<WebElement> eventCards;
+    List<WebElement> eventCards;
 
     @FindBy(xpath = "//div[@data-testid='search-event']//section[2]//p[text()='Free']")
-    private List<WebElement> freeEventCards;
+    List<WebElement> freeEventCards;
 
     @FindBy(className = "empty-state__body")
-    private WebElement noResultsMessage;
+    WebElement noResultsMessage;
 
     @FindBy(xpath = "//span[contains(@class,'filter-header-container__desktop')]//span[text()='Free' or text()='Gratis']")
-    private WebElement freeTextFilterApplied;
+    WebElement freeTextFilterApplied;
 
     // ========== SEARCH AND FILTER ELEMENTS ==========
 
-    @FindBy(css = "input[placeholder*='Search'], input[placeholder*='Buscar']")
-    private WebElement searchField;
+    @FindVariants({
+            @FindBy(css = "input[placeholder*='Search']"),
+            @FindBy(css = "input[placeholder*='Buscar']")
+    })
+    WebElement searchField;
 
     @FindBy(xpath = "//input[@value='free']//following-sibling::label")
-    private WebElement freeEventFilter;
+    WebElement freeEventFilter;
 
     // ========== PAGINATION ELEMENTS ==========
 
     @FindBy(css = ".pagination, .page-navigation, [data-testid='pagination']")
-    private WebElement paginationContainer;
+    WebElement paginationContainer;
 
     /**
      * Constructor that initializes the page and its elements
@@ -57,7 +66,7 @@ public class SearchResultsPage extends BasePage {
      */
     public SearchResultsPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        initElements(SearchResultsPageLocators.BINDER);
 
         log().info("SearchResultsPage initialized");
     }
@@ -77,7 +86,7 @@ public class SearchResultsPage extends BasePage {
         verifyPageLoaded();
 
         // Wait for the results container to be visible
-        waitFor(resultsContainer).toBeVisible().withTimeout(15);
+        waitFor(resultsContainer).withTimeout(15).toBeVisible();
 
         log().info("Search results page loaded and verified successfully");
         return this;
@@ -110,12 +119,13 @@ public class SearchResultsPage extends BasePage {
         log().debug("Checking if search returned any results");
 
         if(!eventCards.isEmpty()){
-            log().debug("Found {} event cards", getResultsCount());
+            // Reuses the lookup isEmpty() just made, no extra round-trip
+            log().debug("Found {} event cards", eventCards.size());
             return true;
         }
 
         try {
-            if(waitFor(noResultsMessage).toBeVisible().withTimeout(2) != null){
+            if(waitFor(noResultsMessage).withTimeout(2).toBeVisible() != null){
                 log().debug("No results message confirmed");
             }
         } catch (Exception e) {
@@ -126,17 +136,21 @@ public class SearchResultsPage extends BasePage {
     }
 
     public int getResultsCount() {
-        return eventCards.size();
+        return extractAll(SearchResultsPageLocators.EVENT_CARDS).size();
     }
 
+    /**
+     * Checks the price label of every event card, reading all of them in one script call
+     *
+     * @return boolean true if every card is labelled Free, or there are no results
+     */
     public boolean areAllFreeEvents (){
         log().info("Checking if all events are Free");
 
         if(hasResults()){
-            for(WebElement element: freeEventCards){
-                String text = element.getText();
-
-                if(!text.contains("Free")){
+            for(ElementRow card: extractAll(SearchResultsPageLocators.FREE_EVENT_CARDS, FieldSpec.text())){
+                if(!card.text().contains("Free")){
+                    log().debug("Event card {} is not Free: '{}'", card.index(), card.text());
                     return false;
                 }
             }
@@ -145,6 +159,135 @@ public class SearchResultsPage extends BasePage {
         return true;
     }
 
+    /**
+     * Reads the titles of the visible event cards in one script call
+     *
+     * @return titles in the order the cards are shown
+     */
+    public List<String> getEventTitles() {
+        List<String> titles = new ArrayList<>();
+        for(ElementRow card: extractAll(SearchResultsPageLocators.EVENT_CARDS, FieldSpec.text(), FieldSpec.visible())){
+            if(card.isVisible()){
+                titles.add(card.text());
+            }
+        }
+        return titles;
+    }
+
+    /**
+     * Reads the links of the event cards in one script call
+     *
+     * @return absolute event URLs in the order the cards are shown
+     */
+    public List<String> getEventUrls() {
+        List<String> urls = new ArrayList<>();
+        for(ElementRow card: extractAll(SearchResultsPageLocators.EVENT_CARDS, FieldSpec.href())){
+            if(card.href() != null){
+                urls.add(card.href());
+            }
+        }
+        return urls;
+    }
+
+    // ========== RESULT PAGES ==========
+
+    /**
+     * Reads the event cards shown on the current results page in one script call
+     *
+     * @return cards in the order they are shown
+     */
+    public List<EventCard> getEventCards() {
+        return readEventCards(currentPageNumber(getCurrentUrl()));
+    }
+
+    /**
+     * Iterates over the cards of this and every following results page, one page at a time, reading
+     * each page in one script call while the next page is prefetched. Use it in a try-with-resources
+     * block and don't use the driver inside it: the prefetch navigates the browser, which is back on
+     * this page once the iterator is exhausted or closed.
+     * <pre>
+     * try (ResultPageIterator pages = resultsPage.iterateResultPages()) {
+     *     while (pages.hasNext()) { ... pages.next() ... }
+     * }
+     * </pre>
+     *
+     * @return iterator to close when done
+     */
+    public ResultPageIterator iterateResultPages() {
+        String searchUrl = getCurrentUrl();
+        int firstPage = currentPageNumber(searchUrl);
+        log().info("Walking search results from page {}", firstPage);
+
+        return new ResultPageIterator(this, searchUrl, firstPage, readEventCards(firstPage));
+    }
+
+    /**
+     * Loads a results page and reads its cards, called from the prefetch thread
+     *
+     * @return cards of the page, empty when the page has no results
+     * @throws TimeoutException if the page shows neither results nor the empty results message
+     */
+    List<EventCard> readResultsPage(String searchUrl, int pageNumber) {
+        navigateTo(withPageParameter(searchUrl, pageNumber));
+        try {
+            waitFor(resultsContainer).withTimeout(15).toBeVisible();
+        } catch (TimeoutException e) {
+            // Only the empty state ends the walk, anything else must not cut the results short
+            if (!isNoResultsMessageShown()) {
+                throw e;
+            }
+            log().debug("Results page {} shows the no results message", pageNumber);
+            return List.of();
+        }
+        return readEventCards(pageNumber);
+    }
+
+    private boolean isNoResultsMessageShown() {
+        return extractAll(SearchResultsPageLocators.NO_RESULTS_MESSAGE, FieldSpec.visible()).stream()
+                .anyMatch(ElementRow::isVisible);
+    }
+
+    /**
+     * Goes back to the results page the walk started from
+     */
+    void returnToResults(String searchUrl) {
+        log().debug("Returning to the search results the walk started from");
+        navigateTo(searchUrl);
+    }
+
+    private List<EventCard> readEventCards(int pageNumber) {
+        return extractAll(SearchResultsPageLocators.SEARCH_EVENTS, EventCard.TITLE, EventCard.URL, EventCard.DETAILS)
+                .stream()
+                .map(row -> EventCard.fromRow(pageNumber, row))
+                .toList();
+    }
+
+    private static int currentPageNumber(String url) {
+        String query = URI.create(url).getRawQuery();
+        if (query != null) {
+            for (String parameter : query.split("&")) {
+                if (parameter.matches("page=\\d+")) {
+                    return Integer.parseInt(parameter.substring("page=".length()));
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static String withPageParameter(String url, int pageNumber) {
+        URI uri = URI.create(url);
+        StringJoiner query = new StringJoiner("&");
+        if (uri.getRawQuery() != null) {
+            for (String parameter : uri.getRawQuery().split("&")) {
+                if (!parameter.isEmpty() && !parameter.startsWith("page=")) {
+                    query.add(parameter);
+                }
+            }
+        }
+        query.add("page=" + pageNumber);
+        return uri.getScheme() + "://" + uri.getRawAuthority() + uri.getRawPath() + "?" + query;
+    }
+
     // ========== NAVIGATION METHODS ==========
 
     /**
@@ -162,7 +305,7 @@ public class SearchResultsPage extends BasePage {
         WebElement firstEvent = eventCards.get(0);
         removeTargetBlank(firstEvent);
 
-        waitFor(firstEvent).toBeClickable().withTimeout(5);
+        waitFor(firstEvent).withTimeout(5).toBeClickable();
         firstEvent.click();
 
         return new EventDetailPage(getDriver());
@@ -189,7 +332,7 @@ public class SearchResultsPage extends BasePage {
             WebElement eventElement = eventCards.get(eventIndex);
             removeTargetBlank(eventElement);
 
-            waitFor(eventElement).toBeClickable().withTimeout(5);
+            waitFor(eventElement).withTimeout(5).toBeClickable();
             eventElement.click();
 
             return new EventDetailPage(getDriver());
@@ -205,11 +348,11 @@ public class SearchResultsPage extends BasePage {
 
         scrollToElement(freeEventFilter);
 
-        waitFor(freeEventFilter).toBeClickable().withTimeout(5);
+        waitFor(freeEventFilter).withTimeout(5).toBeClickable();
         freeEventFilter.click();
 
         log.info("Waiting for filter to be applied");
-        waitFor(freeTextFilterApplied).toBeVisible().withTimeout(5);
+        waitFor(freeTextFilterApplied).withTimeout(5).toBeVisible();
 
         return this;
     }
@@ -224,7 +367,7 @@ public class SearchResultsPage extends BasePage {
      */
     public String getCurrentSearchTerm() {
         try {
-            waitFor(searchField).toBeVisible().withTimeout(5);
+            waitFor(searchField).withTimeout(5).toBeVisible();
             String currentTerm = searchField.getDomProperty("value");
             log().debug("Current search term: {}", currentTerm);
             return currentTerm != null ? currentTerm : "";
@@ -242,7 +385,7 @@ public class SearchResultsPage extends BasePage {
      */
     public boolean hasPagination() {
         try {
-            return waitFor(paginationContainer).toBeVisible().withTimeout(3) != null;
+            return waitFor(paginationContainer).withTimeout(3).toBeVisible() != null;
         } catch (Exception e) {
             log().debug("Pagination not available: {}", e.getMessage());
             return false;
@@ -3,22 +3,21 @@ package pages.web;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 
 public class SignUpPage extends BasePage{
-    @FindBy(css = "")
-    private WebElement signUpElement;
+    @FindBy(css = "input[type='email'], input[name='email']")
+    WebElement emailField;
 
     public SignUpPage(WebDriver driver){
         super(driver);
-        PageFactory.initElements(driver, this);
+        initElements(SignUpPageLocators.BINDER);
 
         log().info("SignUpPage initialized");
     }
 
     public SignUpPage verifySignUpPageDisplayed(){
         verifyPageLoaded();
-        waitFor(signUpElement).toBeVisible().withTimeout(15);
+        waitFor(emailField).withTimeout(15).toBeVisible();
 
         log().info("SignUp page verified successfully");
         return this;
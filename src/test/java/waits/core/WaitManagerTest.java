@@ -0,0 +1,92 @@
+package waits.core;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import waits.abort.AbortPolicy;
+import waits.metrics.WaitCondition;
+import waits.metrics.WaitMetrics;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Checks WaitManager against a stub driver whose elements never become visible
+ */
+public class WaitManagerTest {
+
+    private WebDriver driver;
+    private WaitManager waitManager;
+
+    @BeforeMethod
+    public void createManager() {
+        driver = stub(WebDriver.class);
+        waitManager = WaitManager.getInstance(driver);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void removeManager() {
+        WaitManager.removeInstance(driver);
+    }
+
+    @Test(description = "Waits cancelled after another parallel wait failed are not recorded as failures")
+    public void failingParallelWaitRecordsOneFailure() throws InterruptedException {
+        Assert.assertThrows(WaitTimeoutException.class, () -> waitManager.parallel(
+                () -> waitFor(Duration.ofMillis(300)),
+                () -> waitFor(Duration.ofSeconds(30)),
+                () -> waitFor(Duration.ofSeconds(30))));
+
+        // Cancelled waits stop as soon as their thread is interrupted, give them time to record anything
+        Thread.sleep(500);
+
+        Assert.assertEquals(waitManager.getMetrics().getFailedWaitCount(WaitCondition.ELEMENT_VISIBLE), 1);
+    }
+
+    @Test(description = "Suite snapshots count a running session once, before and after it is published")
+    public void snapshotIncludesRunningSessions() {
+        int before = failedVisibilityWaits(WaitManager.snapshotSuiteMetrics());
+        Assert.assertThrows(WaitTimeoutException.class, () -> waitFor(Duration.ofMillis(100)));
+
+        int running = failedVisibilityWaits(WaitManager.snapshotSuiteMetrics());
+        WaitManager.removeInstance(driver);
+        int published = failedVisibilityWaits(WaitManager.snapshotSuiteMetrics());
+
+        Assert.assertEquals(running, before + 1);
+        Assert.assertEquals(published, running);
+    }
+
+    // ========== PRIVATE HELPER METHODS ==========
+
+    private static int failedVisibilityWaits(WaitMetrics metrics) {
+        return metrics.getFailedWaitCount(WaitCondition.ELEMENT_VISIBLE);
+    }
+
+    private void waitFor(Duration timeout) {
+        waitManager.waitFor(stub(WebElement.class))
+                .withAbortPolicy(AbortPolicy.none())
+                .withTimeout(timeout)
+                .withPollingInterval(Duration.ofMillis(50))
+                .toBeVisible();
+    }
+
+    /**
+     * Driver or element answering every command with false, an empty list or null
+     */
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals": return proxy == args[0];
+                case "hashCode": return System.identityHashCode(proxy);
+                case "toString": return type.getSimpleName() + " stub";
+            }
+            if (method.getReturnType() == boolean.class) {
+                return false;
+            }
+            return method.getReturnType() == List.class ? List.of() : null;
+        }));
+    }
+}